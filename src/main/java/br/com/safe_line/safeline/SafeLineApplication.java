@@ -2,8 +2,10 @@ package br.com.safe_line.safeline;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SafeLineApplication {
 
 	public static void main(String[] args) {
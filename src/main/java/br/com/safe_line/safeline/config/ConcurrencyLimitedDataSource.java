@@ -0,0 +1,133 @@
+package br.com.safe_line.safeline.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource que limita quantas threads usam o banco ao mesmo tempo.
+ *
+ * Com virtual threads o número de requisições simultâneas deixa de ser
+ * limitado pelo pool do Tomcat; sem este limite, milhares de threads
+ * disputariam o Hikari ao mesmo tempo. Cada getConnection() pega uma permissão
+ * de um semáforo justo (FIFO), devolvida no close() da conexão. Com a fila de
+ * espera cheia ou o tempo esgotado, falha logo com
+ * SQLTransientConnectionException, que o GlobalExceptionHandler transforma em 503.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxPermits, int maxWaiting, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    // =============================
+    //           MÉTRICAS
+    // =============================
+    public int getMaxPermits() {
+        return this.maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return this.permits.getQueueLength();
+    }
+
+    public long getRejected() {
+        return this.rejected.get();
+    }
+
+    // =============================
+    //           INTERNO
+    // =============================
+    private void acquire() throws SQLException {
+        // getQueueLength é aproximado: o limite de espera é uma proteção, não uma contagem exata
+        if (this.permits.getQueueLength() >= this.maxWaiting) {
+            this.rejected.incrementAndGet();
+            throw new SQLTransientConnectionException("banco ocupado: fila de espera cheia");
+        }
+
+        try {
+            if (!this.permits.tryAcquire(this.acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                this.rejected.incrementAndGet();
+                throw new SQLTransientConnectionException("banco ocupado: tempo de espera esgotado");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("interrompido esperando conexão", e);
+        }
+    }
+
+    // A permissão volta no primeiro close(); os demais métodos vão direto para a conexão real
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                this.permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+}
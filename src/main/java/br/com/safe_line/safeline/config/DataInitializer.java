@@ -2,6 +2,7 @@ package br.com.safe_line.safeline.config;
 
 import br.com.safe_line.safeline.modules.user.model.Role;
 import br.com.safe_line.safeline.modules.user.repository.RoleRepository;
+import br.com.safe_line.safeline.modules.user.service.RoleCatalog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -11,12 +12,16 @@ import org.springframework.stereotype.Component;
 public class DataInitializer implements CommandLineRunner {
 
     private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
 
     @Override
     public void run(String... args) {
 
         createRoleIfNotExists("ROLE_ADMIN");
         createRoleIfNotExists("ROLE_USER");
+
+        // as roles recém-criadas entram no catálogo em memória
+        roleCatalog.refresh();
     }
 
     private void createRoleIfNotExists(String roleName) {
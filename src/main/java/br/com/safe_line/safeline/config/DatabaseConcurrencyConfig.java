@@ -0,0 +1,73 @@
+package br.com.safe_line.safeline.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Limite de concorrência no banco (ver ConcurrencyLimitedDataSource).
+ *
+ * O DataSource do Boot é embrulhado depois de configurado; com permits = 0 o
+ * limite é o maximum-pool-size do Hikari, então nunca há mais threads pedindo
+ * conexão ao pool do que conexões no pool.
+ *
+ * Pinning (virtual threads, Java 21): o código da aplicação não usa
+ * synchronized nem ThreadLocal; os locks em memória são ReentrantLock /
+ * StampedLock / CAS. O driver do Postgres usa ReentrantLock. O BCrypt continua
+ * num pool de plataforma (PasswordHashingService) para não ocupar os
+ * carriers com trabalho de CPU.
+ */
+@Configuration
+public class DatabaseConcurrencyConfig {
+
+    // static: BeanPostProcessor precisa existir antes dos demais beans
+    @Bean
+    static BeanPostProcessor databaseConcurrencyLimiter(
+            @Value("${app.datasource.concurrency.enabled}") boolean enabled,
+            @Value("${app.datasource.concurrency.permits}") int permits,
+            @Value("${app.datasource.concurrency.max-waiting}") int maxWaiting,
+            @Value("${app.datasource.concurrency.acquire-timeout-ms}") long acquireTimeoutMs) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+
+                int limit = permits > 0 ? permits
+                        : dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize()
+                        : 10;
+                return new ConcurrencyLimitedDataSource(dataSource, limit, maxWaiting, acquireTimeoutMs);
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder databaseConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof ConcurrencyLimitedDataSource limited)) {
+                return;
+            }
+            Gauge.builder("safeline.db.concurrency.in_use", limited,
+                            ds -> ds.getMaxPermits() - ds.getAvailablePermits())
+                    .description("Threads usando uma conexão do banco")
+                    .register(registry);
+            Gauge.builder("safeline.db.concurrency.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                    .description("Threads esperando permissão para usar o banco")
+                    .register(registry);
+            FunctionCounter.builder("safeline.db.concurrency.rejected", limited,
+                            ConcurrencyLimitedDataSource::getRejected)
+                    .description("Pedidos de conexão recusados (fila cheia ou tempo esgotado)")
+                    .register(registry);
+        };
+    }
+}
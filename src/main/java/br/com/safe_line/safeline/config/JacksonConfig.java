@@ -0,0 +1,32 @@
+package br.com.safe_line.safeline.config;
+
+import br.com.safe_line.safeline.config.json.SafeLineJsonModule;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * O ObjectMapper é o do Spring Boot (spring.jackson.*, customizers, módulos
+ * padrão); aqui só registramos módulos, que o Boot instala em todo mapper
+ * que ele constrói.
+ *
+ * - BlackbirdModule: troca reflexão por acessores gerados (LambdaMetafactory)
+ *   nos serializadores/desserializadores de bean.
+ * - SafeLineJsonModule: datas em dd/MM/yyyy HH:mm e serializadores streaming
+ *   de BaseResponse, ReportResponseDTO e UserResponseDTO. É registrado depois
+ *   do JavaTimeModule, então o LocalDateTime dele prevalece.
+ */
+@Configuration
+public class JacksonConfig {
+
+        @Bean
+        public Module blackbirdModule() {
+            return new BlackbirdModule();
+        }
+
+        @Bean
+        public Module safeLineJsonModule() {
+            return new SafeLineJsonModule();
+        }
+}
@@ -0,0 +1,58 @@
+package br.com.safe_line.safeline.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * LocalDateTime em SQL escrito à mão com a mesma conversão do Hibernate.
+ *
+ * Com hibernate.jdbc.time_zone configurado, o Hibernate grava um
+ * LocalDateTime como Timestamp (fuso da JVM) passando um Calendar nesse fuso:
+ * a coluna guarda o horário de parede do fuso do banco. Um setObject direto
+ * guardaria o horário de parede da JVM e as duas formas só coincidem quando a
+ * JVM roda no mesmo fuso. Todo INSERT via JdbcTemplate de colunas que o JPA
+ * também lê (tb_report.call_date) passa por aqui.
+ */
+@Component
+public class JdbcTimestamps {
+
+    private final ZoneId databaseZone;
+    private final TimeZone databaseTimeZone;
+
+    public JdbcTimestamps(@Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+        this.databaseZone = StringUtils.hasText(jdbcTimeZone) ? ZoneId.of(jdbcTimeZone) : ZoneId.systemDefault();
+        this.databaseTimeZone = TimeZone.getTimeZone(this.databaseZone);
+    }
+
+    // Mesmo bind do Hibernate (TimestampJdbcType com jdbc time zone)
+    public void bind(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setTimestamp(index, null);
+            return;
+        }
+        // Calendar não é thread-safe: um por chamada
+        ps.setTimestamp(index, Timestamp.valueOf(value), Calendar.getInstance(this.databaseTimeZone));
+    }
+
+    // Horário da aplicação (fuso da JVM) → horário de parede gravado no banco
+    public LocalDateTime toDatabase(LocalDateTime value) {
+        return value.atZone(ZoneId.systemDefault())
+                .withZoneSameInstant(this.databaseZone)
+                .toLocalDateTime();
+    }
+
+    // "Hoje" no fuso do banco (dias dos rollups)
+    public LocalDate today() {
+        return LocalDate.now(this.databaseZone);
+    }
+}
@@ -1,9 +1,16 @@
 package br.com.safe_line.safeline.config;
 
 // Imports do Servlet e Lombok
+import br.com.safe_line.safeline.modules.auth.model.JwtPrincipal;
+import br.com.safe_line.safeline.modules.auth.model.VerifiedToken;
+import br.com.safe_line.safeline.modules.auth.service.AccessTokenWriteBehind;
 import br.com.safe_line.safeline.modules.auth.service.JwtTokenService;
+import br.com.safe_line.safeline.modules.auth.service.TokenRevocationCache;
+import br.com.safe_line.safeline.modules.response.BaseResponse;
 import br.com.safe_line.safeline.modules.user.repository.AccessTokenRepository;
+import br.com.safe_line.safeline.modules.user.service.RoleCatalog;
 import br.com.safe_line.safeline.modules.user.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,16 +21,24 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Component // Diz ao Spring que esta classe é um bean gerenciado e deve ser injetada onde necessário
 @Slf4j     // Adiciona automaticamente um logger (log.info, log.warn, etc.)
@@ -42,19 +57,41 @@ public class JwtFilter extends OncePerRequestFilter {
     @Lazy  // Evita problema de dependência circular entre JwtFilter e UserService
     private UserService userService;
 
+    // Lista local de tokens revogados (evita ida ao banco a cada requisição)
+    @Autowired
+    private TokenRevocationCache tokenRevocationCache;
+
+    // Catálogo de roles em memória → authorities pré-montadas (sem consulta, sem alocação)
+    @Autowired
+    private RoleCatalog roleCatalog;
+
     // Repositório que armazena tokens e seus status (revogado/ativo)
+    // → usado apenas quando a lista local está incompleta
     @Autowired
     private AccessTokenRepository accessTokenRepository;
 
+    // Tokens emitidos que ainda não foram gravados em tb_token (fila write-behind)
+    @Autowired
+    private AccessTokenWriteBehind accessTokenWriteBehind;
+
+    // Mapper do Spring Boot → corpo JSON do 503 escrito pelo próprio filtro
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Nome do cookie onde o token será procurado (vem do application.yaml)
-    @Value("${app.jwt.secret}")
+    @Value("${app.jwt.cookie-name}")
     private String accessTokenCookieName;
 
+    // true → principal montado só com as claims do JWT (sem consultar o banco)
+    @Value("${app.jwt.stateless-principal}")
+    private boolean statelessPrincipal;
+
     // Lista de rotas que não exigem autenticação JWT
     // → qualquer rota que COMEÇA com essas strings será considerada pública
     private final List<String> publicPaths = List.of(
             "api/v1/auth/",
             "/api/v1/report/create",// login, refresh, register
+            "/api/v1/report/reputation/", // consulta pública dos apps de bloqueio de chamadas
             "/swagger-ui/",
             "/v3/api-docs/",  // documentação backend
             "/actuator/health"
@@ -111,39 +148,57 @@ public class JwtFilter extends OncePerRequestFilter {
             }
 
             // -------------------------------------
-            // 4. EXTRAI USERNAME DO TOKEN (subject)
+            // 4. VALIDA O TOKEN E EXTRAI AS CLAIMS
             // -------------------------------------
 
-            // O JwtTokenService extrai do JWT o subject — normalmente email ou id do usuário
-            String username = this.jwtTokenService.extractUsername(jwt);
+            // Verifica assinatura + expiração uma única vez e reaproveita as claims tipadas
+            VerifiedToken verifiedToken = this.jwtTokenService.verify(jwt);
 
-            // -------------------------------------
-            // 5. CARREGA Detalhes DO USUÁRIO
-            // (UserDetails para uso do Spring Security)
-            // -------------------------------------
-
-            var userDetails = this.userService.loadUserByUsername(username);
+            // subject = id do usuário → identidade única usada em todo o fluxo
+            UUID userId = verifiedToken.userId();
 
             // -------------------------------------
-            // 6. VERIFICA NO BANCO SE TOKEN ESTÁ REVOGADO
+            // 5. VERIFICA SE TOKEN ESTÁ REVOGADO
             // -------------------------------------
 
-            // Busca no banco pelo token e verifica se NÃO está revogado
-            boolean isTokenValid = this.accessTokenRepository.findByToken(jwt)
-                    .map(token -> !token.isRevoked()) // se achou o token, verifica se revogado == false
-                    .orElse(false);                    // se não achou no banco → token inválido
+            // Falta só conferir a lista local de revogados (sem I/O)
+            boolean isTokenValid = !this.tokenRevocationCache.isRevoked(verifiedToken);
+
+            // Se a lista local descartou entradas por falta de espaço, confirma no banco
+            if (isTokenValid && !this.tokenRevocationCache.isComplete()) {
+                isTokenValid = this.accessTokenRepository.findByTokenHash(verifiedToken.tokenId())
+                        .map(token -> !token.isRevoked()) // se achou o token, verifica se revogado == false
+                        // sem linha: só vale se ainda estiver na fila write-behind desta instância
+                        .orElseGet(() -> this.accessTokenWriteBehind.isPending(verifiedToken.tokenId()));
+            }
 
             // -------------------------------------
-            // 7. SE TOKEN É VÁLIDO, AUTENTICA NO SPRING SECURITY
+            // 6. MONTA O USUÁRIO AUTENTICADO
+            // E REGISTRA NO SPRING SECURITY
             // -------------------------------------
 
             if (isTokenValid) {
 
+                // Modo stateless: principal leve direto das claims (sem JPA, sem consultas)
+                // Modo clássico: carrega a entidade User pelo id do token
+                Object principal;
+                Collection<? extends GrantedAuthority> authorities;
+
+                if (this.statelessPrincipal) {
+                    var jwtPrincipal = buildPrincipal(verifiedToken);
+                    principal = jwtPrincipal;
+                    authorities = jwtPrincipal.authorities();
+                } else {
+                    var userDetails = this.userService.loadUserById(userId);
+                    principal = userDetails;
+                    authorities = this.roleCatalog.authoritiesForRoles(userDetails.getRoles());
+                }
+
                 // Cria objeto de autenticação padrão do Spring Security
                 var authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, // usuário
-                        null,        // credenciais (não coloca senha aqui por segurança)
-                        userDetails.getAuthorities() // roles do usuário
+                        principal,  // usuário
+                        null,       // credenciais (não coloca senha aqui por segurança)
+                        authorities // roles do usuário
                 );
 
                 // Preenche detalhes da requisição (IP, navegador, etc.)
@@ -153,6 +208,19 @@ public class JwtFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
+        } catch (DataAccessResourceFailureException | CannotCreateTransactionException e) {
+
+            // -------------------------------------
+            // 7. BANCO OCUPADO OU INDISPONÍVEL
+            // -------------------------------------
+
+            // Não é falha de autenticação: o token pode ser válido, só não deu para conferir.
+            // Responde 503 aqui mesmo (o GlobalExceptionHandler não alcança filtros)
+            JwtFilter.log.warn("Banco indisponível ao autenticar via JWT: {}", e.getMessage());
+            SecurityContextHolder.clearContext();
+            writeServiceUnavailable(response);
+            return;
+
         } catch (Exception e) {
 
             // -------------------------------------
@@ -175,4 +243,25 @@ public class JwtFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
+
+    // Mesmo corpo e cabeçalhos do 503 do GlobalExceptionHandler
+    private void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+        BaseResponse<String> body = BaseResponse.error("servidor ocupado, tente novamente em instantes");
+        body.setStatusCode(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        this.objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * Monta o principal a partir das claims "email" e "roles"
+     * gravadas pelo JwtTokenService.generateAccessToken.
+     */
+    private JwtPrincipal buildPrincipal(VerifiedToken token) {
+        return new JwtPrincipal(token.userId(), token.email(), token.roles(),
+                this.roleCatalog.authoritiesFor(token.roles()));
+    }
+}
\ No newline at end of file
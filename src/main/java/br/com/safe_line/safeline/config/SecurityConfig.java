@@ -1,6 +1,7 @@
 package br.com.safe_line.safeline.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.prepost.PostAuthorize;
@@ -26,6 +27,10 @@ public class SecurityConfig {
     @Autowired
     private JwtFilter jwtFilter; // Assumindo que este filtro existe
 
+    // Custo do BCrypt (hashes antigos com custo menor são atualizados no próximo login)
+    @Value("${app.security.bcrypt-strength}")
+    private int bcryptStrength;
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -46,7 +51,8 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/api/v1/auth/login",
                                 "/api/v1/user/create",
-                                "/api/v1/report/create")
+                                "/api/v1/report/create",
+                                "/api/v1/report/reputation/**")
                         .permitAll()
                         // --- FIM DA CORREÇÃO ---
 
@@ -75,6 +81,6 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(this.bcryptStrength);
     }
 }
@@ -0,0 +1,109 @@
+package br.com.safe_line.safeline.config.json;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Codec do formato de data da API: "dd/MM/yyyy HH:mm".
+ *
+ * Escreve e lê os 16 caracteres com aritmética simples, sem DateTimeFormatter
+ * no caminho comum. O texto de cada minuto formatado fica num cache pequeno de
+ * mapeamento direto (listas ordenadas por data repetem muito o mesmo minuto);
+ * entradas são imutáveis, então a concorrência no cache é inofensiva.
+ * Anos fora de 0000–9999 caem no DateTimeFormatter.
+ */
+public final class LocalDateTimeCodec {
+
+    public static final String PATTERN = "dd/MM/yyyy HH:mm";
+
+    private static final DateTimeFormatter FALLBACK = DateTimeFormatter.ofPattern(PATTERN);
+    private static final int LENGTH = 16;
+    private static final int CACHE_SIZE = 1024; // potência de 2
+
+    private static final Entry[] CACHE = new Entry[CACHE_SIZE];
+
+    private LocalDateTimeCodec() {
+    }
+
+    public static String format(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return FALLBACK.format(dateTime);
+        }
+
+        long epochMinute = dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+        int slot = (int) (epochMinute & (CACHE_SIZE - 1));
+
+        Entry entry = CACHE[slot];
+        if (entry != null && entry.epochMinute == epochMinute) {
+            return entry.text;
+        }
+
+        char[] chars = new char[LENGTH];
+        writeTwoDigits(chars, 0, dateTime.getDayOfMonth());
+        chars[2] = '/';
+        writeTwoDigits(chars, 3, dateTime.getMonthValue());
+        chars[5] = '/';
+        writeTwoDigits(chars, 6, year / 100);
+        writeTwoDigits(chars, 8, year % 100);
+        chars[10] = ' ';
+        writeTwoDigits(chars, 11, dateTime.getHour());
+        chars[13] = ':';
+        writeTwoDigits(chars, 14, dateTime.getMinute());
+
+        String text = new String(chars);
+        CACHE[slot] = new Entry(epochMinute, text);
+        return text;
+    }
+
+    /**
+     * @throws DateTimeParseException se o texto não estiver em dd/MM/yyyy HH:mm
+     */
+    public static LocalDateTime parse(CharSequence text) {
+        if (text.length() != LENGTH
+                || text.charAt(2) != '/' || text.charAt(5) != '/'
+                || text.charAt(10) != ' ' || text.charAt(13) != ':') {
+            return LocalDateTime.parse(text, FALLBACK);
+        }
+
+        int day = readDigits(text, 0, 2);
+        int month = readDigits(text, 3, 2);
+        int year = readDigits(text, 6, 4);
+        int hour = readDigits(text, 11, 2);
+        int minute = readDigits(text, 14, 2);
+
+        if ((day | month | year | hour | minute) < 0) {
+            return LocalDateTime.parse(text, FALLBACK); // mensagem de erro padrão do java.time
+        }
+
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute);
+        } catch (DateTimeException e) {
+            throw new DateTimeParseException(e.getMessage(), text, 0, e);
+        }
+    }
+
+    private static void writeTwoDigits(char[] chars, int offset, int value) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    // -1 se houver algum caractere que não é dígito
+    private static int readDigits(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private record Entry(long epochMinute, String text) {
+    }
+}
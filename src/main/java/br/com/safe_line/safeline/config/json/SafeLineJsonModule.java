@@ -0,0 +1,205 @@
+package br.com.safe_line.safeline.config.json;
+
+import br.com.safe_line.safeline.modules.report.dto.ReportResponseDTO;
+import br.com.safe_line.safeline.modules.response.BaseResponse;
+import br.com.safe_line.safeline.modules.user.dto.UserResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Serializadores escritos à mão (streaming) para os tipos mais serializados da
+ * API e o codec de LocalDateTime em dd/MM/yyyy HH:mm.
+ *
+ * Os nomes dos campos são pré-codificados (SerializedString) e cada objeto é
+ * escrito direto no JsonGenerator, sem introspecção nem property writers. A
+ * saída é a mesma do serializador de bean padrão (mesmos campos, mesma ordem).
+ */
+public class SafeLineJsonModule extends SimpleModule {
+
+    public SafeLineJsonModule() {
+        super("SafeLineJsonModule");
+        addSerializer(LocalDateTime.class, new LocalDateTimeSerializer());
+        addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer());
+        addSerializer(BaseResponse.class, new BaseResponseSerializer());
+        addSerializer(ReportResponseDTO.class, new ReportResponseSerializer());
+        addSerializer(UserResponseDTO.class, new UserResponseSerializer());
+    }
+
+    // =============================
+    //        LocalDateTime
+    // =============================
+    static final class LocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+        LocalDateTimeSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(LocalDateTimeCodec.format(value));
+        }
+    }
+
+    static final class LocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime> {
+
+        LocalDateTimeDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+                return (LocalDateTime) ctxt.handleUnexpectedToken(LocalDateTime.class, parser);
+            }
+
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            try {
+                return LocalDateTimeCodec.parse(text);
+            } catch (DateTimeParseException e) {
+                return (LocalDateTime) ctxt.handleWeirdStringValue(LocalDateTime.class, text,
+                        "data fora do formato " + LocalDateTimeCodec.PATTERN);
+            }
+        }
+    }
+
+    // =============================
+    //         BaseResponse
+    // =============================
+    @SuppressWarnings("rawtypes")
+    static final class BaseResponseSerializer extends StdSerializer<BaseResponse> {
+
+        private static final SerializedString MESSAGE = new SerializedString("message");
+        private static final SerializedString DATA = new SerializedString("data");
+        private static final SerializedString SUCCESS = new SerializedString("success");
+        private static final SerializedString STATUS_CODE = new SerializedString("statusCode");
+        private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+
+        BaseResponseSerializer() {
+            super(BaseResponse.class);
+        }
+
+        @Override
+        public void serialize(BaseResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(value.getMessage());
+
+            gen.writeFieldName(DATA);
+            // "data" é genérico: delega ao serializador do tipo real (listas, DTOs, String...)
+            provider.defaultSerializeValue(value.getData(), gen);
+
+            gen.writeFieldName(SUCCESS);
+            gen.writeBoolean(value.isSuccess());
+
+            gen.writeFieldName(STATUS_CODE);
+            gen.writeNumber(value.getStatusCode());
+
+            if (value.getNextCursor() != null) {
+                gen.writeFieldName(NEXT_CURSOR);
+                gen.writeString(value.getNextCursor());
+            }
+
+            gen.writeEndObject();
+        }
+    }
+
+    // =============================
+    //       ReportResponseDTO
+    // =============================
+    static final class ReportResponseSerializer extends StdSerializer<ReportResponseDTO> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString PHONE = new SerializedString("phone");
+        private static final SerializedString CALL_DATE = new SerializedString("callDate");
+        private static final SerializedString COMPANY = new SerializedString("company");
+        private static final SerializedString DESCRIPTION = new SerializedString("description");
+        private static final SerializedString STATUS = new SerializedString("status");
+
+        ReportResponseSerializer() {
+            super(ReportResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(ReportResponseDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+
+            gen.writeFieldName(ID);
+            writeNullableString(gen, value.id() == null ? null : value.id().toString());
+
+            gen.writeFieldName(PHONE);
+            gen.writeString(value.phone());
+
+            gen.writeFieldName(CALL_DATE);
+            writeNullableString(gen, value.callDate() == null ? null : LocalDateTimeCodec.format(value.callDate()));
+
+            gen.writeFieldName(COMPANY);
+            gen.writeString(value.company());
+
+            gen.writeFieldName(DESCRIPTION);
+            gen.writeString(value.description());
+
+            gen.writeFieldName(STATUS);
+            if (value.status() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeBoolean(value.status());
+            }
+
+            gen.writeEndObject();
+        }
+    }
+
+    // =============================
+    //        UserResponseDTO
+    // =============================
+    static final class UserResponseSerializer extends StdSerializer<UserResponseDTO> {
+
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString EMAIL = new SerializedString("email");
+        private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+
+        UserResponseSerializer() {
+            super(UserResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(UserResponseDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+
+            gen.writeFieldName(NAME);
+            gen.writeString(value.name());
+
+            gen.writeFieldName(EMAIL);
+            gen.writeString(value.email());
+
+            gen.writeFieldName(CREATED_AT);
+            writeNullableString(gen, value.createdAt() == null ? null : LocalDateTimeCodec.format(value.createdAt()));
+
+            gen.writeEndObject();
+        }
+    }
+
+    // writeString(null) já escreve null; explícito para deixar a intenção clara
+    private static void writeNullableString(JsonGenerator gen, String value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
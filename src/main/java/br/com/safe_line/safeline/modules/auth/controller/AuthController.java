@@ -11,6 +11,7 @@ import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -59,4 +60,15 @@ public class AuthController {
         var serviceResponse = this.authService.logout(request, response);
         return ResponseEntity.status(serviceResponse.getStatusCode()).body(serviceResponse);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Desloga o usuário de todos os dispositivos",
+            description = "Revoga todas as sessões (refresh e access tokens) do usuário autenticado.")
+    @PostMapping("/logout-all") // Rota: /api/v1/auth/logout-all
+    public ResponseEntity<BaseResponse<String>> logoutAll(
+            @AuthenticationPrincipal Object principal,
+            HttpServletResponse response) {
+
+        var serviceResponse = this.authService.logoutAll(principal, response);
+        return ResponseEntity.status(serviceResponse.getStatusCode()).body(serviceResponse);
+    }
+}
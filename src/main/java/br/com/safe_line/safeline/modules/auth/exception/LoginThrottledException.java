@@ -0,0 +1,16 @@
+package br.com.safe_line.safeline.modules.auth.exception;
+
+import lombok.Getter;
+
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    // segundos até a próxima tentativa ser aceita
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("muitas tentativas de login, tente novamente mais tarde");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
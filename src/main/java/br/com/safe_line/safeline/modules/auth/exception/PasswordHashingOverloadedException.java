@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.auth.exception;
+
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    public PasswordHashingOverloadedException() {
+        super("servidor ocupado, tente novamente em instantes");
+    }
+
+}
@@ -0,0 +1,26 @@
+package br.com.safe_line.safeline.modules.auth.model;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Usuário autenticado montado só com as claims do JWT já verificado.
+ * Não é entidade JPA: nenhuma consulta ao banco é feita para criá-lo.
+ * A identidade é sempre o id do usuário (subject do token).
+ */
+public record JwtPrincipal(
+        UUID userId,
+        String email,
+        List<String> roles,
+        Collection<? extends GrantedAuthority> authorities
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return this.userId.toString();
+    }
+}
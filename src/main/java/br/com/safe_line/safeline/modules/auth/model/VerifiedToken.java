@@ -0,0 +1,27 @@
+package br.com.safe_line.safeline.modules.auth.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims tipadas de um access token cuja assinatura e expiração já foram verificadas.
+ *
+ * @param tokenId   identificador de tamanho fixo do token (SHA-256, mesmo valor de tb_token.token_hash)
+ * @param userId    subject do token (id do usuário)
+ * @param sessionId claim "sid": id do refresh token que originou o token (null em tokens antigos)
+ */
+public record VerifiedToken(
+        String tokenId,
+        UUID userId,
+        UUID sessionId,
+        String email,
+        List<String> roles,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !this.expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,290 @@
+package br.com.safe_line.safeline.modules.auth.service;
+
+import br.com.safe_line.safeline.modules.user.model.AccessToken;
+import br.com.safe_line.safeline.modules.user.repository.AccessTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistência assíncrona (write-behind) dos access tokens emitidos.
+ *
+ * Com app.jwt.write-behind.enabled=true o login/refresh só coloca o token numa
+ * fila em memória; uma thread de fundo grava em lotes (JDBC batch). A validade
+ * do token não depende da linha existir no banco: o JwtFilter usa a assinatura
+ * + a lista local de revogados, e tokens revogados enquanto ainda estão na fila
+ * já são gravados como revogados.
+ *
+ * A linha, porém, é necessária: o JwtFilter consulta tb_token quando a lista
+ * local está incompleta e o refresh procura o último token da sessão. Por
+ * isso nenhum token é descartado por falha transitória: um lote que falha é
+ * regravado linha a linha e o que não entrar volta para o próximo ciclo.
+ * Enquanto está na fila, o token aparece em isPending().
+ */
+@Component
+@Slf4j
+public class AccessTokenWriteBehind {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_token (id_token, token_hash, user_id, refresh_token_id, created_at, expires_at, is_revoked)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (token_hash) DO NOTHING
+            """;
+
+    private final AccessTokenRepository accessTokenRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.jwt.write-behind.enabled}")
+    private boolean enabled;
+
+    @Value("${app.jwt.write-behind.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${app.jwt.write-behind.flush-size}")
+    private int flushSize;
+
+    @Value("${app.jwt.write-behind.flush-interval-ms}")
+    private long flushIntervalMs;
+
+    @Value("${app.jwt.write-behind.offer-timeout-ms}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<PendingAccessToken> queue;
+
+    // token_hash → ainda não gravado (fila, lote em andamento ou aguardando nova tentativa)
+    private final Map<String, PendingAccessToken> pendingByHash = new ConcurrentHashMap<>();
+    private Thread writer;
+    private volatile boolean running;
+
+    private Counter flushedTokens;
+    private Counter synchronousFallbacks;
+    private Counter retriedTokens;
+    private Counter droppedTokens;
+
+    public AccessTokenWriteBehind(
+            AccessTokenRepository accessTokenRepository,
+            TokenRevocationCache tokenRevocationCache,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry) {
+        this.accessTokenRepository = accessTokenRepository;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // =============================
+    //     INICIALIZAÇÃO
+    // =============================
+    @PostConstruct
+    void start() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.queue = new ArrayBlockingQueue<>(this.queueCapacity);
+        this.flushedTokens = Counter.builder("safeline.jwt.write_behind.flushed")
+                .description("Access tokens gravados pela fila write-behind")
+                .register(this.meterRegistry);
+        this.synchronousFallbacks = Counter.builder("safeline.jwt.write_behind.sync_fallbacks")
+                .description("Access tokens gravados de forma síncrona porque a fila estava cheia")
+                .register(this.meterRegistry);
+        this.retriedTokens = Counter.builder("safeline.jwt.write_behind.retried")
+                .description("Access tokens que voltaram para nova tentativa após falha de gravação")
+                .register(this.meterRegistry);
+        this.droppedTokens = Counter.builder("safeline.jwt.write_behind.dropped")
+                .description("Access tokens recusados pelo banco (violação de integridade)")
+                .register(this.meterRegistry);
+        this.meterRegistry.gaugeCollectionSize("safeline.jwt.write_behind.queue_size", Tags.empty(), this.queue);
+
+        this.running = true;
+        this.writer = new Thread(this::runWriter, "access-token-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // =============================
+    //     PERSISTIR TOKEN
+    // =============================
+    public void persist(AccessToken accessToken) {
+        if (!this.enabled) {
+            this.accessTokenRepository.save(accessToken);
+            return;
+        }
+
+        var pending = new PendingAccessToken(
+                UUID.randomUUID(),
+                accessToken.getTokenHash(),
+                accessToken.getUser().getIdUser(),
+                accessToken.getRefreshToken().getIdRefreshToken(),
+                Instant.now(),
+                accessToken.getExpiresAt()
+        );
+
+        // Visível para o JwtFilter antes mesmo de entrar na fila
+        this.pendingByHash.put(pending.tokenHash(), pending);
+        try {
+            // Backpressure: espera um pouco por espaço na fila antes de gravar na própria requisição
+            if (this.running && this.queue.offer(pending, this.offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.pendingByHash.remove(pending.tokenHash());
+        this.synchronousFallbacks.increment();
+        this.accessTokenRepository.save(accessToken);
+    }
+
+    // =============================
+    //     THREAD DE GRAVAÇÃO
+    // =============================
+    private void runWriter() {
+        List<PendingAccessToken> batch = new ArrayList<>(this.flushSize);
+        List<PendingAccessToken> retry = List.of();
+
+        while (this.running) {
+            try {
+                if (retry.isEmpty()) {
+                    // Espera o primeiro item até o intervalo de flush e completa o lote com o que houver
+                    PendingAccessToken first = this.queue.poll(this.flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                } else {
+                    // Banco com problema: espera antes de tentar de novo (os tokens seguem em isPending)
+                    TimeUnit.MILLISECONDS.sleep(this.flushIntervalMs * 10);
+                    batch.addAll(retry);
+                }
+                this.queue.drainTo(batch, this.flushSize - batch.size());
+                retry = flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Grava o lote; se o JDBC batch falhar, tenta linha a linha.
+     *
+     * @return os tokens que não foram gravados por falha transitória (nova tentativa)
+     */
+    private List<PendingAccessToken> flush(List<PendingAccessToken> batch) {
+        try {
+            this.jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            written(batch);
+            return List.of();
+        } catch (Exception e) {
+            log.warn("Falha ao gravar lote de {} access tokens, gravando linha a linha: {}",
+                    batch.size(), e.getMessage());
+        }
+
+        // ON CONFLICT (token_hash) DO NOTHING: linhas que o lote chegou a gravar não duplicam
+        List<PendingAccessToken> retry = new ArrayList<>();
+        for (PendingAccessToken token : batch) {
+            try {
+                this.jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, token));
+                written(List.of(token));
+            } catch (DataIntegrityViolationException e) {
+                // Usuário ou sessão apagados: a linha nunca vai entrar, o token deixa de valer
+                log.error("Access token descartado, recusado pelo banco: {}", e.getMessage());
+                this.pendingByHash.remove(token.tokenHash());
+                this.droppedTokens.increment();
+            } catch (Exception e) {
+                retry.add(token);
+            }
+        }
+
+        if (!retry.isEmpty()) {
+            log.error("{} access tokens não gravados; nova tentativa no próximo ciclo", retry.size());
+            this.retriedTokens.increment(retry.size());
+        }
+        return retry;
+    }
+
+    private void bind(PreparedStatement ps, PendingAccessToken token) throws SQLException {
+        ps.setObject(1, token.idToken());
+        ps.setString(2, token.tokenHash());
+        ps.setObject(3, token.userId());
+        ps.setObject(4, token.refreshTokenId());
+        ps.setObject(5, OffsetDateTime.ofInstant(token.createdAt(), ZoneOffset.UTC));
+        ps.setObject(6, OffsetDateTime.ofInstant(token.expiresAt(), ZoneOffset.UTC));
+        // Revogado enquanto ainda estava na fila → já grava como revogado
+        ps.setBoolean(7, this.tokenRevocationCache.isRevoked(
+                token.tokenHash(), token.userId(), token.refreshTokenId(), token.createdAt()));
+    }
+
+    private void written(List<PendingAccessToken> tokens) {
+        tokens.forEach(token -> this.pendingByHash.remove(token.tokenHash()));
+        this.flushedTokens.increment(tokens.size());
+    }
+
+    // =============================
+    //     CONSULTA (JwtFilter)
+    // =============================
+
+    // true se o token foi emitido por esta instância e ainda não tem linha em tb_token
+    public boolean isPending(String tokenHash) {
+        return this.pendingByHash.containsKey(tokenHash);
+    }
+
+    // =============================
+    //     DESLIGAMENTO
+    // =============================
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.running = false;
+        this.writer.join(this.flushIntervalMs * 2);
+
+        // Grava o que sobrou na fila (e o que aguardava nova tentativa) antes de encerrar
+        List<PendingAccessToken> remaining = new ArrayList<>(this.pendingByHash.values());
+        int lost = 0;
+        for (int from = 0; from < remaining.size(); from += this.flushSize) {
+            lost += flush(remaining.subList(from, Math.min(from + this.flushSize, remaining.size()))).size();
+        }
+        if (lost > 0) {
+            log.error("{} access tokens não gravados no desligamento", lost);
+        }
+    }
+
+    private record PendingAccessToken(
+            UUID idToken,
+            String tokenHash,
+            UUID userId,
+            UUID refreshTokenId,
+            Instant createdAt,
+            Instant expiresAt
+    ) {
+    }
+}
@@ -1,13 +1,12 @@
 package br.com.safe_line.safeline.modules.auth.service;
 
 import br.com.safe_line.safeline.config.CookieService;
+import br.com.safe_line.safeline.modules.auth.exception.PasswordHashingOverloadedException;
 import br.com.safe_line.safeline.modules.auth.controller.AuthRequestDTO;
+import br.com.safe_line.safeline.modules.auth.model.JwtPrincipal;
 import br.com.safe_line.safeline.modules.response.BaseResponse;
 import br.com.safe_line.safeline.modules.user.exception.UsernameNotFoundException;
-import br.com.safe_line.safeline.modules.user.model.AccessToken;
 import br.com.safe_line.safeline.modules.user.model.User;
-import br.com.safe_line.safeline.modules.user.repository.AccessTokenRepository;
-import br.com.safe_line.safeline.modules.user.repository.RefreshTokenRepository;
 import br.com.safe_line.safeline.modules.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,10 +17,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class AuthService {
@@ -30,19 +28,19 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private CookieService cookieService;
 
     @Autowired
-    private AccessTokenRepository accessTokenRepository;
+    private JwtTokenService jwtTokenService;
 
     @Autowired
-    private RefreshTokenRepository refreshTokenRepository;
+    private SessionRevocationService sessionRevocationService;
 
     @Autowired
-    private JwtTokenService jwtTokenService;
+    private LoginThrottleService loginThrottleService;
 
     @Value("${app.jwt.access-expiration-ms}")
     private long accessTokenExpirationMs;
@@ -56,6 +54,9 @@ public class AuthService {
     @Value("${app.jwt.refresh-cookie-name}")
     private String refreshTokenCookieName;
 
+    @Value("${app.security.rehash-on-login}")
+    private boolean rehashOnLogin;
+
     public BaseResponse<String> authenticate(
             AuthRequestDTO authRequestDTO,
             HttpServletResponse response,
@@ -64,11 +65,16 @@ public class AuthService {
         String email = authRequestDTO.email();
         String rawPassword = authRequestDTO.password();
 
+        // Limitador por email/IP: tentativa recusada não chega no banco nem no BCrypt.
+        // getRemoteAddr() já é o IP do cliente: o RemoteIpValve (server.forward-headers-strategy)
+        // lê o X-Forwarded-For apenas quando a conexão vem do Gateway
+        this.loginThrottleService.checkAllowed(email, request.getRemoteAddr());
+
         try {
             User user = this.userRepository.findByEmail(email)
                     .orElseThrow(UsernameNotFoundException::new);
 
-            if (!this.passwordEncoder.matches(rawPassword, user.getPassword())) {
+            if (!this.passwordHashingService.matches(rawPassword, user.getPassword())) {
                 throw new BadCredentialsException("Credenciais incorretas.");
             }
 
@@ -80,6 +86,18 @@ public class AuthService {
                 throw new BadCredentialsException("A conta está bloqueada temporariamente.");
             }
 
+            // =============================
+            //  ATUALIZA HASH COM CUSTO ANTIGO
+            // =============================
+            if (this.rehashOnLogin && this.passwordHashingService.needsUpgrade(user.getPassword())) {
+                try {
+                    user.setPassword(this.passwordHashingService.encode(rawPassword));
+                    this.userRepository.save(user);
+                } catch (PasswordHashingOverloadedException e) {
+                    // melhor esforço: sob carga fica para o próximo login
+                }
+            }
+
             // =============================
             //     GERA REFRESH TOKEN
             // =============================
@@ -161,20 +179,23 @@ public class AuthService {
 
         try {
             String accessTokenJwt = this.cookieService.getTokenFromCookie(request, this.accessTokenCookieName);
+            UUID sessionId = null;
 
             if (accessTokenJwt != null) {
-                Optional<AccessToken> accessTokenOpt = this.accessTokenRepository.findByToken(accessTokenJwt);
-
-                if (accessTokenOpt.isPresent()) {
-                    var token = accessTokenOpt.get();
-                    var refreshToken = token.getRefreshToken();
+                // Revoga o próprio token na lista local (cobre tokens antigos, sem claim "sid")
+                this.jwtTokenService.revokeLocally(accessTokenJwt);
+                sessionId = this.jwtTokenService.findSessionId(accessTokenJwt).orElse(null);
+            }
 
-                    token.setRevoked(true);
-                    refreshToken.setRevoked(true);
+            // Access token ausente/expirado → a sessão vem do cookie do refresh token
+            String refreshTokenId = this.cookieService.getTokenFromCookie(request, this.refreshTokenCookieName);
+            if (sessionId == null && refreshTokenId != null && !refreshTokenId.isEmpty()) {
+                sessionId = UUID.fromString(refreshTokenId);
+            }
 
-                    this.accessTokenRepository.save(token);
-                    this.refreshTokenRepository.save(refreshToken);
-                }
+            // Uma UPDATE por tabela revoga a sessão inteira (refresh + todos os seus access tokens)
+            if (sessionId != null) {
+                this.sessionRevocationService.revokeSession(sessionId);
             }
 
             this.cookieService.clearCookie(response, this.accessTokenCookieName);
@@ -191,4 +212,22 @@ public class AuthService {
         }
     }
 
-}
\ No newline at end of file
+    // Revoga todas as sessões do usuário autenticado ("sair de todos os dispositivos")
+    public BaseResponse<String> logoutAll(Object principal, HttpServletResponse response) {
+
+        UUID userId = principal instanceof JwtPrincipal jwtPrincipal
+                ? jwtPrincipal.userId()
+                : ((User) principal).getIdUser();
+
+        this.sessionRevocationService.revokeAllSessions(userId);
+
+        this.cookieService.clearCookie(response, this.accessTokenCookieName);
+        this.cookieService.clearCookie(response, this.refreshTokenCookieName);
+
+        return BaseResponse.<String>success(
+                null,
+                "Logout from all sessions Successful!",
+                HttpStatus.OK.value());
+    }
+
+}
@@ -1,24 +1,34 @@
 package br.com.safe_line.safeline.modules.auth.service;
 
+import br.com.safe_line.safeline.modules.auth.model.VerifiedToken;
 import br.com.safe_line.safeline.modules.user.model.AccessToken;
 import br.com.safe_line.safeline.modules.user.model.RefreshToken;
 import br.com.safe_line.safeline.modules.user.model.User;
 import br.com.safe_line.safeline.modules.user.repository.AccessTokenRepository;
 import br.com.safe_line.safeline.modules.user.repository.RefreshTokenRepository;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -33,15 +43,34 @@ public class JwtTokenService {
     @Value("${app.jwt.refresh-expiration-ms}")
     private long refreshTokenExpirationMs;
 
+    @Value("${app.jwt.verified-cache.max-entries}")
+    private int verifiedCacheMaxEntries;
 
     private final AccessTokenRepository accessTokenRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final AccessTokenWriteBehind accessTokenWriteBehind;
+
+    // Chave e parser são imutáveis e thread-safe: criados uma única vez
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // Cache de tokens já verificados: SHA-256 do token -> claims tipadas
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
 
     // =============================
     //        CHAVE JWT
     // =============================
+    @PostConstruct
+    void initSigningKey() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(this.signingKey)
+                .build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return this.signingKey;
     }
 
     // =============================
@@ -53,22 +82,25 @@ public class JwtTokenService {
         Instant expires = now.plus(15, ChronoUnit.MINUTES);
 
         String jwt = Jwts.builder()
+                .id(UUID.randomUUID().toString()) // jti: garante hash único por token emitido
                 .subject(user.getIdUser().toString())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expires))
                 .claim("email", user.getEmail())
                 .claim("roles", user.getRoles().stream().map(r -> r.getName()).toList())
+                .claim("sid", refreshToken.getIdRefreshToken().toString()) // sessão: permite revogar a família inteira
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
 
         AccessToken accessToken = AccessToken.builder()
-                .token(jwt)
+                .tokenHash(TokenDigest.sha256(jwt))
                 .user(user)
                 .refreshToken(refreshToken)
                 .expiresAt(expires)
                 .build();
 
-        accessTokenRepository.save(accessToken);
+        // Síncrono por padrão; com write-behind habilitado só entra na fila de gravação
+        accessTokenWriteBehind.persist(accessToken);
 
         return jwt;
     }
@@ -95,10 +127,7 @@ public class JwtTokenService {
     // =============================
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())     // chave correta
-                    .build()
-                    .parseSignedClaims(token);       // método correto
+            verify(token);
             return true;
 
         } catch (JwtException | IllegalArgumentException e) {
@@ -110,10 +139,34 @@ public class JwtTokenService {
     //       REVOGAR TOKEN
     // =============================
     public void revokeAccessToken(String token) {
-        accessTokenRepository.findByToken(token).ifPresent(accessToken -> {
+        String tokenHash = TokenDigest.sha256(token);
+        accessTokenRepository.findByTokenHash(tokenHash).ifPresentOrElse(accessToken -> {
             accessToken.setRevoked(true);
             accessTokenRepository.save(accessToken);
-        });
+            tokenRevocationCache.revoke(tokenHash, accessToken.getExpiresAt());
+        }, () -> revokeLocally(token));
+    }
+
+    /**
+     * Revoga o token só na lista local. Usado quando o token ainda não tem linha em
+     * tb_token (fila write-behind: o writer grava a linha já revogada).
+     */
+    public void revokeLocally(String token) {
+        try {
+            VerifiedToken verified = verify(token);
+            tokenRevocationCache.revoke(verified.tokenId(), verified.expiresAt());
+        } catch (JwtException | IllegalArgumentException e) {
+            // token inválido ou expirado: não há o que revogar
+        }
+    }
+
+    // Sessão (claim "sid") de um token válido; vazio se inválido, expirado ou sem a claim
+    public Optional<UUID> findSessionId(String token) {
+        try {
+            return Optional.ofNullable(verify(token).sessionId());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     // =============================
@@ -121,27 +174,85 @@ public class JwtTokenService {
     // =============================
     public String refreshAccessToken(String refreshTokenId) {
 
-        RefreshToken refreshToken = refreshTokenRepository.findById(UUID.fromString(refreshTokenId))
-                .orElseThrow(() -> new RuntimeException("Refresh token não encontrado."));
-
+        // Uma consulta: refresh token ativo + último access token + usuário + roles
         AccessToken lastToken = accessTokenRepository
-                .findFirstByRefreshTokenOrderByCreatedAtDesc(refreshToken)
-                .orElseThrow(() -> new RuntimeException("Nenhum access token encontrado."));
+                .findLatestByActiveRefreshToken(UUID.fromString(refreshTokenId), Instant.now())
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Refresh token inválido, revogado ou expirado."));
 
         if (lastToken.getExpiresAt().isAfter(Instant.now())) {
             throw new RuntimeException("Access Token ainda é válido, não é necessário renovar.");
         }
 
-        return generateAccessToken(lastToken.getUser(), refreshToken);
+        return generateAccessToken(lastToken.getUser(), lastToken.getRefreshToken());
+    }
+
+    // =============================
+    //   VERIFICAR TOKEN (CLAIMS TIPADAS)
+    // =============================
+
+    /**
+     * Verifica assinatura e expiração e devolve as claims tipadas.
+     * Um token já verificado e ainda não expirado sai do cache, sem refazer HMAC/Base64.
+     *
+     * @throws JwtException se o token for inválido ou estiver expirado
+     */
+    public VerifiedToken verify(String jwt) {
+        String tokenId = TokenDigest.sha256(jwt);
+        Instant now = Instant.now();
+
+        VerifiedToken cached = this.verifiedTokens.get(tokenId);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            this.verifiedTokens.remove(tokenId);
+        }
+
+        Claims claims = this.jwtParser
+                .parseSignedClaims(jwt)        // valida assinatura e expiração
+                .getPayload();
+
+        VerifiedToken verified = toVerifiedToken(tokenId, claims);
+
+        if (this.verifiedTokens.size() >= this.verifiedCacheMaxEntries) {
+            purgeExpiredVerifiedTokens();
+        }
+        if (this.verifiedTokens.size() < this.verifiedCacheMaxEntries) {
+            this.verifiedTokens.put(tokenId, verified);
+        }
+
+        return verified;
     }
 
     public String extractUsername(String jwt) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())   // chave correta
-                .build()
-                .parseSignedClaims(jwt)        // parse seguro
-                .getPayload()
-                .getSubject();                 // subject = id do usuário
+        return verify(jwt).userId().toString(); // subject = id do usuário
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval-ms}")
+    public void purgeExpiredVerifiedTokens() {
+        Instant now = Instant.now();
+        this.verifiedTokens.values().removeIf(token -> token.isExpired(now));
+    }
+
+    private VerifiedToken toVerifiedToken(String tokenId, Claims claims) {
+        List<String> roles = new ArrayList<>();
+        if (claims.get("roles") instanceof List<?> claimRoles) {
+            claimRoles.forEach(role -> roles.add(String.valueOf(role)));
+        }
+
+        String sessionId = claims.get("sid", String.class);
+
+        return new VerifiedToken(
+                tokenId,
+                UUID.fromString(claims.getSubject()),
+                sessionId == null ? null : UUID.fromString(sessionId),
+                claims.get("email", String.class),
+                List.copyOf(roles),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant()
+        );
     }
 
-}
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package br.com.safe_line.safeline.modules.auth.service;
+
+import br.com.safe_line.safeline.modules.auth.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limita tentativas de login por email e por IP com token buckets em memória.
+ *
+ * Roda antes de qualquer consulta ao banco ou BCrypt: uma tentativa recusada
+ * custa só uma busca no mapa. Cada chave ocupa um bucket de tamanho fixo e
+ * chaves ociosas (bucket cheio de novo) são removidas periodicamente.
+ */
+@Service
+public class LoginThrottleService {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.login-throttle.enabled}")
+    private boolean enabled;
+
+    @Value("${app.security.login-throttle.email.capacity}")
+    private int emailCapacity;
+
+    @Value("${app.security.login-throttle.email.refill-per-minute}")
+    private int emailRefillPerMinute;
+
+    @Value("${app.security.login-throttle.ip.capacity}")
+    private int ipCapacity;
+
+    @Value("${app.security.login-throttle.ip.refill-per-minute}")
+    private int ipRefillPerMinute;
+
+    @Value("${app.security.login-throttle.idle-eviction-ms}")
+    private long idleEvictionMs;
+
+    @Value("${app.security.login-throttle.lock-stripes}")
+    private int lockStripes;
+
+    private BucketMap emailBuckets;
+    private BucketMap ipBuckets;
+    private ReentrantLock[] locks;
+    private Counter rejected;
+
+    public LoginThrottleService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        // número de stripes arredondado para potência de 2 (índice por máscara)
+        int stripes = Integer.highestOneBit(Math.max(1, this.lockStripes - 1)) << 1;
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.locks[i] = new ReentrantLock();
+        }
+
+        this.emailBuckets = new BucketMap(this.emailCapacity, this.emailRefillPerMinute);
+        this.ipBuckets = new BucketMap(this.ipCapacity, this.ipRefillPerMinute);
+
+        this.rejected = Counter.builder("safeline.login_throttle.rejected")
+                .description("Tentativas de login recusadas pelo limitador")
+                .register(this.meterRegistry);
+        this.meterRegistry.gaugeMapSize("safeline.login_throttle.keys", Tags.of("key", "email"), this.emailBuckets.buckets);
+        this.meterRegistry.gaugeMapSize("safeline.login_throttle.keys", Tags.of("key", "ip"), this.ipBuckets.buckets);
+    }
+
+    // =============================
+    //     VERIFICAR TENTATIVA
+    // =============================
+
+    /**
+     * Consome uma ficha do IP e uma do email.
+     *
+     * @throws LoginThrottledException se qualquer um dos dois estiver sem fichas
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!this.enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        long waitNanos = tryConsume(this.ipBuckets, "ip:" + clientIp, now);
+        if (waitNanos == 0) {
+            String emailKey = "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+            waitNanos = tryConsume(this.emailBuckets, emailKey, now);
+        }
+
+        if (waitNanos > 0) {
+            this.rejected.increment();
+            throw new LoginThrottledException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos)));
+        }
+    }
+
+    // retorna 0 se consumiu a ficha, ou quantos nanos faltam para a próxima
+    private long tryConsume(BucketMap bucketMap, String key, long now) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            Bucket bucket = bucketMap.buckets.computeIfAbsent(key, k -> new Bucket(bucketMap.capacity, now));
+            bucketMap.refill(bucket, now);
+            bucket.lastUsedNanos = now;
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) ((1 - bucket.tokens) / bucketMap.tokensPerNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // =============================
+    //   REMOÇÃO DE CHAVES OCIOSAS
+    // =============================
+    @Scheduled(fixedDelayString = "${app.security.login-throttle.idle-eviction-ms}")
+    public void evictIdleKeys() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(this.idleEvictionMs);
+
+        evictIdle(this.emailBuckets, now, idleNanos);
+        evictIdle(this.ipBuckets, now, idleNanos);
+    }
+
+    private void evictIdle(BucketMap bucketMap, long now, long idleNanos) {
+        for (String key : bucketMap.buckets.keySet()) {
+            ReentrantLock lock = lockFor(key);
+            lock.lock();
+            try {
+                Bucket bucket = bucketMap.buckets.get(key);
+                if (bucket == null) {
+                    continue;
+                }
+                bucketMap.refill(bucket, now);
+                // só remove quando o bucket já encheu de novo: recriar dá o mesmo resultado
+                if (now - bucket.lastUsedNanos >= idleNanos && bucket.tokens >= bucketMap.capacity) {
+                    bucketMap.buckets.remove(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private ReentrantLock lockFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return this.locks[hash & (this.locks.length - 1)];
+    }
+
+    // Buckets de um tipo de chave + seus parâmetros
+    private static final class BucketMap {
+        private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+        private final double capacity;
+        private final double tokensPerNano;
+
+        private BucketMap(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        }
+
+        private void refill(Bucket bucket, long now) {
+            long elapsed = now - bucket.lastRefillNanos;
+            if (elapsed > 0) {
+                bucket.tokens = Math.min(this.capacity, bucket.tokens + elapsed * this.tokensPerNano);
+                bucket.lastRefillNanos = now;
+            }
+        }
+    }
+
+    // Estado mutável protegido pelo lock da stripe da chave
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastUsedNanos;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefillNanos = now;
+            this.lastUsedNanos = now;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.safe_line.safeline.modules.auth.service;
+
+import br.com.safe_line.safeline.modules.auth.exception.PasswordHashingOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa o BCrypt (matches/encode) num pool próprio, limitado ao número de núcleos.
+ *
+ * Uma rajada de logins ocupa só este pool; as threads do Tomcat ficam livres para
+ * os endpoints baratos. Com a fila cheia (ou espera maior que o limite) a requisição
+ * falha rápido com 503 em vez de acumular.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.password-hashing.threads}")
+    private int threads;
+
+    @Value("${app.security.password-hashing.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${app.security.password-hashing.timeout-ms}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private Timer matchesTimer;
+    private Timer encodeTimer;
+    private Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        // threads <= 0 → um por núcleo
+        int poolSize = this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.matchesTimer = Timer.builder("safeline.password_hashing.duration")
+                .tag("operation", "matches")
+                .description("Tempo de cálculo do hash de senha (sem a espera na fila)")
+                .register(this.meterRegistry);
+        this.encodeTimer = Timer.builder("safeline.password_hashing.duration")
+                .tag("operation", "encode")
+                .description("Tempo de cálculo do hash de senha (sem a espera na fila)")
+                .register(this.meterRegistry);
+        this.rejected = Counter.builder("safeline.password_hashing.rejected")
+                .description("Requisições recusadas por sobrecarga do pool de hashing")
+                .register(this.meterRegistry);
+        this.meterRegistry.gauge("safeline.password_hashing.queue_size", Tags.empty(), this.executor,
+                pool -> pool.getQueue().size());
+        this.meterRegistry.gauge("safeline.password_hashing.active", Tags.empty(), this.executor,
+                ThreadPoolExecutor::getActiveCount);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.executor.shutdown();
+    }
+
+    // =============================
+    //     OPERAÇÕES DE HASH
+    // =============================
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> this.matchesTimer.record(() -> this.passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> this.encodeTimer.record(() -> this.passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Indica se o hash foi gerado com custo menor que o configurado
+     * (só lê o prefixo do hash, não precisa do pool).
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return this.passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = this.executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            this.rejected.increment();
+            throw new PasswordHashingOverloadedException();
+        }
+
+        try {
+            return future.get(this.timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            this.rejected.increment();
+            throw new PasswordHashingOverloadedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
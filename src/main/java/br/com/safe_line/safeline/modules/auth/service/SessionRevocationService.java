@@ -0,0 +1,64 @@
+package br.com.safe_line.safeline.modules.auth.service;
+
+import br.com.safe_line.safeline.modules.user.repository.AccessTokenRepository;
+import br.com.safe_line.safeline.modules.user.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Revogação de sessões em massa.
+ *
+ * No banco, cada operação é uma UPDATE por tabela (set-based, sem carregar
+ * entidades). Em memória, uma única entrada (sessão ou marca por usuário)
+ * derruba todos os access tokens afetados, inclusive os que ainda estão na
+ * fila write-behind.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SessionRevocationService {
+
+    private final AccessTokenRepository accessTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+
+    @Value("${app.jwt.access-expiration-ms}")
+    private long accessTokenExpirationMs;
+
+    // =============================
+    //   REVOGAR UMA SESSÃO (FAMÍLIA)
+    // =============================
+    @Transactional
+    public void revokeSession(UUID refreshTokenId) {
+        Instant now = Instant.now();
+
+        int accessTokens = this.accessTokenRepository.revokeAllByRefreshToken(refreshTokenId, now);
+        this.refreshTokenRepository.revokeById(refreshTokenId);
+
+        this.tokenRevocationCache.revokeSession(refreshTokenId, now.plusMillis(this.accessTokenExpirationMs));
+
+        log.info("Sessão {} revogada ({} access tokens)", refreshTokenId, accessTokens);
+    }
+
+    // =============================
+    //   REVOGAR TODAS DO USUÁRIO
+    // =============================
+    @Transactional
+    public void revokeAllSessions(UUID userId) {
+        Instant now = Instant.now();
+
+        int accessTokens = this.accessTokenRepository.revokeAllByUser(userId, now);
+        int refreshTokens = this.refreshTokenRepository.revokeAllByUser(userId);
+
+        this.tokenRevocationCache.revokeUserTokensIssuedBefore(userId, now, now.plusMillis(this.accessTokenExpirationMs));
+
+        log.info("Todas as sessões do usuário {} revogadas ({} access tokens, {} refresh tokens)",
+                userId, accessTokens, refreshTokens);
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.safe_line.safeline.modules.auth.service;
+
+import br.com.safe_line.safeline.modules.user.repository.AccessTokenRepository;
+import br.com.safe_line.safeline.modules.user.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.IntSupplier;
+
+/**
+ * Retenção de tokens: remove de tb_token e tb_refresh_token as linhas expiradas
+ * há mais de app.token-retention.retention-days.
+ *
+ * Os DELETEs são feitos em lotes pequenos, cada um na sua transação, para não
+ * segurar locks longos nem gerar um único WAL gigante.
+ */
+@Service
+@Slf4j
+public class TokenRetentionService {
+
+    private final AccessTokenRepository accessTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final Counter purgedAccessTokens;
+    private final Counter purgedRefreshTokens;
+    private final Timer purgeTimer;
+
+    @Value("${app.token-retention.enabled}")
+    private boolean enabled;
+
+    @Value("${app.token-retention.retention-days}")
+    private long retentionDays;
+
+    @Value("${app.token-retention.batch-size}")
+    private int batchSize;
+
+    @Value("${app.token-retention.max-batches}")
+    private int maxBatches;
+
+    public TokenRetentionService(
+            AccessTokenRepository accessTokenRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry) {
+        this.accessTokenRepository = accessTokenRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.purgedAccessTokens = Counter.builder("safeline.token_retention.purged")
+                .tag("table", "tb_token")
+                .description("Linhas expiradas removidas pela retenção de tokens")
+                .register(meterRegistry);
+        this.purgedRefreshTokens = Counter.builder("safeline.token_retention.purged")
+                .tag("table", "tb_refresh_token")
+                .description("Linhas expiradas removidas pela retenção de tokens")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("safeline.token_retention.duration")
+                .description("Tempo de cada execução da retenção de tokens")
+                .register(meterRegistry);
+    }
+
+    // =============================
+    //     EXECUÇÃO AGENDADA
+    // =============================
+    @Scheduled(cron = "${app.token-retention.cron}")
+    public void purgeExpiredTokens() {
+        if (!this.enabled) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(Duration.ofDays(this.retentionDays));
+
+        this.purgeTimer.record(() -> {
+            // Access tokens primeiro: refresh tokens só saem quando nenhum access token aponta para eles
+            int accessTokens = purgeInBatches(() -> this.accessTokenRepository.deleteExpiredBatch(cutoff, this.batchSize));
+            this.purgedAccessTokens.increment(accessTokens);
+
+            int refreshTokens = purgeInBatches(() -> this.refreshTokenRepository.deleteExpiredBatch(cutoff, this.batchSize));
+            this.purgedRefreshTokens.increment(refreshTokens);
+
+            log.info("Retenção de tokens: {} access tokens e {} refresh tokens removidos (expirados antes de {})",
+                    accessTokens, refreshTokens, cutoff);
+        });
+    }
+
+    private int purgeInBatches(IntSupplier deleteBatch) {
+        int total = 0;
+
+        for (int batch = 0; batch < this.maxBatches; batch++) {
+            int deleted = deleteBatch.getAsInt();
+            total += deleted;
+
+            if (deleted < this.batchSize) {
+                break; // último lote
+            }
+        }
+
+        return total;
+    }
+}
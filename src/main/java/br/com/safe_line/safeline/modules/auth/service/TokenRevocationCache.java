@@ -0,0 +1,194 @@
+package br.com.safe_line.safeline.modules.auth.service;
+
+import br.com.safe_line.safeline.modules.auth.model.VerifiedToken;
+import br.com.safe_line.safeline.modules.user.repository.AccessTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Conjunto local (em memória) de tokens revogados.
+ *
+ * Cada entrada fica guardada só até o token expirar — depois disso a própria
+ * assinatura JWT já rejeita o token. Com isso o JwtFilter decide a validade
+ * sem ir ao banco no caminho comum.
+ *
+ * Além de tokens individuais, guarda sessões revogadas (família de um refresh
+ * token, claim "sid") e marcas "revogar tudo emitido até X" por usuário: uma
+ * única entrada corta todas as sessões, qualquer que seja a quantidade.
+ */
+@Component
+@Slf4j
+public class TokenRevocationCache {
+
+    private final AccessTokenRepository accessTokenRepository;
+
+    // id do token -> instante em que o token expira
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    // id da sessão (refresh token) -> até quando a entrada precisa existir
+    private final Map<UUID, Instant> revokedSessions = new ConcurrentHashMap<>();
+
+    // id do usuário -> tokens emitidos até "cutoff" estão revogados
+    private final Map<UUID, UserCutoff> userCutoffs = new ConcurrentHashMap<>();
+
+    // Enquanto "agora" for anterior a este instante, o conjunto pode estar incompleto
+    // (alguma revogação foi descartada por falta de espaço)
+    private final AtomicReference<Instant> incompleteUntil = new AtomicReference<>(Instant.EPOCH);
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${app.jwt.revocation.max-entries}")
+    private int maxEntries;
+
+    public TokenRevocationCache(AccessTokenRepository accessTokenRepository, MeterRegistry meterRegistry) {
+        this.accessTokenRepository = accessTokenRepository;
+        this.hits = Counter.builder("safeline.jwt.revocation.lookups")
+                .tag("result", "hit")
+                .description("Consultas que encontraram o token na lista de revogados")
+                .register(meterRegistry);
+        this.misses = Counter.builder("safeline.jwt.revocation.lookups")
+                .tag("result", "miss")
+                .description("Consultas de tokens não revogados")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("safeline.jwt.revocation.size", Tags.of("scope", "token"), this.revoked);
+        meterRegistry.gaugeMapSize("safeline.jwt.revocation.size", Tags.of("scope", "session"), this.revokedSessions);
+        meterRegistry.gaugeMapSize("safeline.jwt.revocation.size", Tags.of("scope", "user"), this.userCutoffs);
+    }
+
+    // =============================
+    //   CARGA INICIAL (BANCO)
+    // =============================
+    @PostConstruct
+    void warmUp() {
+        var now = Instant.now();
+        this.accessTokenRepository.findAllByIsRevokedTrueAndExpiresAtAfter(now)
+                .forEach(token -> revoke(token.getTokenHash(), token.getExpiresAt()));
+        log.info("Lista de revogação carregada com {} tokens", this.revoked.size());
+    }
+
+    // =============================
+    //        REVOGAR
+    // =============================
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (hasRoomFor(expiresAt, this.revoked.containsKey(tokenId))) {
+            this.revoked.merge(tokenId, expiresAt, TokenRevocationCache::latest);
+        }
+    }
+
+    /**
+     * Revoga todos os access tokens de uma sessão (família de um refresh token).
+     *
+     * @param until instante em que o último access token possível da sessão expira
+     */
+    public void revokeSession(UUID sessionId, Instant until) {
+        if (hasRoomFor(until, this.revokedSessions.containsKey(sessionId))) {
+            this.revokedSessions.merge(sessionId, until, TokenRevocationCache::latest);
+        }
+    }
+
+    /**
+     * Revoga todos os access tokens do usuário emitidos até "cutoff".
+     *
+     * @param until instante em que o último token emitido até "cutoff" expira
+     */
+    public void revokeUserTokensIssuedBefore(UUID userId, Instant cutoff, Instant until) {
+        if (hasRoomFor(until, this.userCutoffs.containsKey(userId))) {
+            this.userCutoffs.merge(userId, new UserCutoff(cutoff, until),
+                    (a, b) -> new UserCutoff(latest(a.cutoff(), b.cutoff()), latest(a.until(), b.until())));
+        }
+    }
+
+    private boolean hasRoomFor(Instant until, boolean alreadyPresent) {
+        var now = Instant.now();
+        if (until == null || !until.isAfter(now)) {
+            return false; // já expirado: a assinatura JWT rejeita sozinha
+        }
+
+        if (alreadyPresent) {
+            return true;
+        }
+
+        if (size() >= this.maxEntries) {
+            purgeExpired();
+        }
+
+        if (size() >= this.maxEntries) {
+            // Sem espaço: marca o conjunto como incompleto até esta revogação perder o efeito
+            this.incompleteUntil.accumulateAndGet(until, TokenRevocationCache::latest);
+            log.warn("Lista de revogação cheia ({} entradas); consultas voltam ao banco até {}",
+                    this.maxEntries, this.incompleteUntil.get());
+            return false;
+        }
+
+        return true;
+    }
+
+    // =============================
+    //        CONSULTAR
+    // =============================
+    public boolean isRevoked(VerifiedToken token) {
+        return isRevoked(token.tokenId(), token.userId(), token.sessionId(), token.issuedAt());
+    }
+
+    public boolean isRevoked(String tokenId, UUID userId, UUID sessionId, Instant issuedAt) {
+        boolean isRevoked = this.revoked.containsKey(tokenId)
+                || (sessionId != null && this.revokedSessions.containsKey(sessionId))
+                || isBeforeUserCutoff(userId, issuedAt);
+
+        if (isRevoked) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+        }
+        return isRevoked;
+    }
+
+    private boolean isBeforeUserCutoff(UUID userId, Instant issuedAt) {
+        UserCutoff userCutoff = this.userCutoffs.get(userId);
+        // iat tem precisão de segundos: na dúvida (mesmo segundo) o token é considerado revogado
+        return userCutoff != null && !issuedAt.isAfter(userCutoff.cutoff());
+    }
+
+    /**
+     * Indica se todas as revogações ainda válidas estão em memória.
+     * Quando falso, o chamador deve confirmar no banco.
+     */
+    public boolean isComplete() {
+        return Instant.now().isAfter(this.incompleteUntil.get());
+    }
+
+    private int size() {
+        return this.revoked.size() + this.revokedSessions.size() + this.userCutoffs.size();
+    }
+
+    // =============================
+    //   LIMPEZA DE EXPIRADOS
+    // =============================
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval-ms}")
+    public void purgeExpired() {
+        var now = Instant.now();
+        this.revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        this.revokedSessions.values().removeIf(until -> !until.isAfter(now));
+        this.userCutoffs.values().removeIf(userCutoff -> !userCutoff.until().isAfter(now));
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record UserCutoff(Instant cutoff, Instant until) {
+    }
+}
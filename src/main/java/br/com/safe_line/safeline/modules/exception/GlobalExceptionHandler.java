@@ -1,11 +1,24 @@
 package br.com.safe_line.safeline.modules.exception;
 
+import br.com.safe_line.safeline.modules.auth.exception.LoginThrottledException;
+import br.com.safe_line.safeline.modules.auth.exception.PasswordHashingOverloadedException;
+import br.com.safe_line.safeline.modules.report.exception.DuplicateReportException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidAnalyticsParameterException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidBulkPayloadException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidCursorException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidExportFormatException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidPhoneNumberException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidReportException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidSearchQueryException;
 import br.com.safe_line.safeline.modules.response.BaseResponse;
 import br.com.safe_line.safeline.modules.user.exception.EmailAlreadyExistsException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -31,9 +44,23 @@ public class GlobalExceptionHandler {
     }
 
     // ============================================
-    //         EMAIL JÁ EXISTE (409)
+    //        PARÂMETROS INVÁLIDOS (400)
     // ============================================
-    @ExceptionHandler({EmailAlreadyExistsException.class})
+    @ExceptionHandler({InvalidCursorException.class, InvalidExportFormatException.class, InvalidPhoneNumberException.class,
+            InvalidBulkPayloadException.class, InvalidAnalyticsParameterException.class, InvalidSearchQueryException.class,
+            InvalidReportException.class})
+    public ResponseEntity<BaseResponse<String>> handleBadRequestException(RuntimeException ex) {
+
+        BaseResponse<String> response = BaseResponse.error(ex.getMessage());
+        response.setStatusCode(400);
+
+        return ResponseEntity.status(400).body(response);
+    }
+
+    // ============================================
+    //    EMAIL JÁ EXISTE / DUPLICADO (409)
+    // ============================================
+    @ExceptionHandler({EmailAlreadyExistsException.class, DuplicateReportException.class})
     public ResponseEntity<BaseResponse<String>> handleAlreadyExistException(RuntimeException ex) {
 
         BaseResponse<String> response = BaseResponse.error(ex.getMessage());
@@ -53,4 +80,43 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(404).body(response);
     }
+
+    // ============================================
+    //   POOL DE HASH DE SENHA SOBRECARREGADO (503)
+    // ============================================
+    @ExceptionHandler({PasswordHashingOverloadedException.class})
+    public ResponseEntity<BaseResponse<String>> handlePasswordHashingOverloadedException(RuntimeException ex) {
+
+        BaseResponse<String> response = BaseResponse.error(ex.getMessage());
+        response.setStatusCode(503);
+
+        return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1").body(response);
+    }
+
+    // ============================================
+    //   BANCO OCUPADO OU INDISPONÍVEL (503)
+    // ============================================
+    // Sem conexão: limite de concorrência do banco estourado ou pool/banco fora
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<BaseResponse<String>> handleDatabaseUnavailableException(RuntimeException ex) {
+
+        BaseResponse<String> response = BaseResponse.error("servidor ocupado, tente novamente em instantes");
+        response.setStatusCode(503);
+
+        return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1").body(response);
+    }
+
+    // ============================================
+    //    MUITAS TENTATIVAS DE LOGIN (429)
+    // ============================================
+    @ExceptionHandler({LoginThrottledException.class})
+    public ResponseEntity<BaseResponse<String>> handleLoginThrottledException(LoginThrottledException ex) {
+
+        BaseResponse<String> response = BaseResponse.error(ex.getMessage());
+        response.setStatusCode(429);
+
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
 }
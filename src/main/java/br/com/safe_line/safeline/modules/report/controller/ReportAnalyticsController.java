@@ -0,0 +1,59 @@
+package br.com.safe_line.safeline.modules.report.controller;
+
+import br.com.safe_line.safeline.modules.report.dto.RollupBucketDTO;
+import br.com.safe_line.safeline.modules.report.dto.RollupCountDTO;
+import br.com.safe_line.safeline.modules.report.dto.RollupRebuildResponseDTO;
+import br.com.safe_line.safeline.modules.report.service.ReportAnalyticsService;
+import br.com.safe_line.safeline.modules.report.service.ReportRollupRebuildService;
+import br.com.safe_line.safeline.modules.response.BaseResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Datas no formato ISO (yyyy-MM-dd); "from" e "to" são inclusivos
+@RestController
+@RequestMapping("/api/v1/report/analytics")
+@AllArgsConstructor
+public class ReportAnalyticsController {
+
+    private final ReportAnalyticsService reportAnalyticsService;
+    private final ReportRollupRebuildService reportRollupRebuildService;
+
+    @GetMapping("/timeline")
+    public ResponseEntity<BaseResponse<List<RollupBucketDTO>>> getTimelineController(
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.status(HttpStatus.OK).body(reportAnalyticsService.getTimeline(granularity, from, to));
+    }
+
+    @GetMapping("/companies")
+    public ResponseEntity<BaseResponse<List<RollupCountDTO>>> getByCompanyController(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(reportAnalyticsService.getByCompany(from, to, limit));
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<BaseResponse<List<RollupCountDTO>>> getByStatusController(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.status(HttpStatus.OK).body(reportAnalyticsService.getByStatus(from, to));
+    }
+
+    // Recálculo varre tb_report: só administradores
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rebuild")
+    public ResponseEntity<BaseResponse<RollupRebuildResponseDTO>> rebuildController(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.status(HttpStatus.OK).body(reportRollupRebuildService.rebuildRange(from, to));
+    }
+}
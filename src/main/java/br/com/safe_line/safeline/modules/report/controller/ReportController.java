@@ -1,15 +1,33 @@
 package br.com.safe_line.safeline.modules.report.controller;
 
+import br.com.safe_line.safeline.modules.report.dto.BulkReportResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.PhoneLookupResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.PhoneReputationResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.ReportCursor;
+import br.com.safe_line.safeline.modules.report.dto.ReportExportFormat;
 import br.com.safe_line.safeline.modules.report.dto.ReportRequestDTO;
 import br.com.safe_line.safeline.modules.report.dto.ReportResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.ReportSearchResultDTO;
+import br.com.safe_line.safeline.modules.report.service.ReportBulkService;
+import br.com.safe_line.safeline.modules.report.service.ReportDataVersion;
+import br.com.safe_line.safeline.modules.report.service.ReportExportService;
+import br.com.safe_line.safeline.modules.report.service.ReportIntakeService;
 import br.com.safe_line.safeline.modules.report.service.ReportService;
 import br.com.safe_line.safeline.modules.response.BaseResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Set;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/report")
@@ -17,15 +35,106 @@ import java.util.Set;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportExportService reportExportService;
+    private final ReportBulkService reportBulkService;
+    private final ReportIntakeService reportIntakeService;
+    private final ReportDataVersion reportDataVersion;
 
+    // Modo assíncrono: 202 com o id assim que a denúncia entra na outbox
     @PostMapping("/create")
-    public ResponseEntity<BaseResponse<ReportResponseDTO>> createReportController(@RequestBody ReportRequestDTO reportRequestDTO) {
+    public ResponseEntity<BaseResponse<?>> createReportController(@RequestBody ReportRequestDTO reportRequestDTO) {
+        if (reportIntakeService.isAsyncEnabled()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportIntakeService.accept(reportRequestDTO));
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(reportService.createdReport(reportRequestDTO));
     }
 
+    // Lote: array JSON (application/json) ou um objeto por linha (application/x-ndjson)
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BaseResponse<BulkReportResponseDTO>> createReportsBulkController(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        return ResponseEntity.status(HttpStatus.OK).body(reportBulkService.createReports(body, ndjson));
+    }
+
+    // ETag = versão dos dados: If-None-Match igual → 304 sem consultar o banco nem serializar
     @GetMapping
-    public ResponseEntity<BaseResponse<Set<ReportResponseDTO>>> getReportController() {
-        return ResponseEntity.status(HttpStatus.OK).body(reportService.getAllReport());
+    public ResponseEntity<BaseResponse<List<ReportResponseDTO>>> getReportController(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+
+        // lida antes da consulta: se algo for gravado no meio, a próxima chamada recebe 200 de novo
+        String etag = reportDataVersion.etag();
+        if (etag == null) {
+            return ResponseEntity.status(HttpStatus.OK).body(reportService.getAllReport(cursor, size));
+        }
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(reportService.getAllReport(cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<List<ReportSearchResultDTO>>> searchReportsController(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.status(HttpStatus.OK).body(reportService.searchReports(q, cursor, size));
+    }
+
+    @GetMapping("/phone/{phone}")
+    public ResponseEntity<BaseResponse<PhoneLookupResponseDTO>> lookupPhoneController(@PathVariable String phone) {
+        return ResponseEntity.status(HttpStatus.OK).body(reportService.lookupPhone(phone));
+    }
+
+    @GetMapping("/reputation/{phone}")
+    public ResponseEntity<BaseResponse<PhoneReputationResponseDTO>> getPhoneReputationController(@PathVariable String phone) {
+        return ResponseEntity.status(HttpStatus.OK).body(reportService.getPhoneReputation(phone));
+    }
+
+    @GetMapping("/phone")
+    public ResponseEntity<BaseResponse<List<ReportResponseDTO>>> searchByPhonePrefixController(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.status(HttpStatus.OK).body(reportService.searchByPhonePrefix(prefix, size));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReportController(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String cursor) {
+
+        // valida os parâmetros antes de começar o streaming (erros ainda viram 400)
+        var exportFormat = ReportExportFormat.fromParam(format);
+        var position = cursor == null || cursor.isBlank() ? null : ReportCursor.decode(cursor);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                var gzipOut = new GZIPOutputStream(out, 8192);
+                reportExportService.export(gzipOut, exportFormat, position);
+                gzipOut.finish();
+            } else {
+                reportExportService.export(out, exportFormat, position);
+            }
+        };
+
+        var response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType() + ";charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reports." + exportFormat.getExtension() + "\"");
+
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(body);
     }
 
-}
\ No newline at end of file
+}
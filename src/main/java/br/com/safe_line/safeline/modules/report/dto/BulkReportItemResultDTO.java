@@ -0,0 +1,17 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.UUID;
+
+// Resultado de cada item do lote, na mesma posição em que foi enviado
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkReportItemResultDTO(
+        int index,
+        boolean created,
+        UUID id,
+        String error
+) {
+}
@@ -0,0 +1,14 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BulkReportResponseDTO(
+        int received,
+        int created,
+        int rejected,
+        List<BulkReportItemResultDTO> items
+) {
+}
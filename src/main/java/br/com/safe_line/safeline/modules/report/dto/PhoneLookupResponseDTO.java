@@ -0,0 +1,11 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import lombok.Builder;
+
+@Builder
+public record PhoneLookupResponseDTO(
+        String phone,
+        boolean reported,
+        long totalReports
+) {
+}
@@ -0,0 +1,22 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+public record PhoneReputationResponseDTO(
+        String phone,
+        boolean reported,
+        int totalReports,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm")
+        LocalDateTime firstCallDate,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm")
+        LocalDateTime lastCallDate,
+        int distinctCompanies,
+        List<String> companies,
+        Boolean latestStatus
+) {
+}
@@ -0,0 +1,12 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+// Resposta do modo assíncrono: o id é o que a denúncia terá em tb_report
+@Builder
+public record ReportAcceptedResponseDTO(
+        UUID id
+) {
+}
@@ -0,0 +1,25 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import br.com.safe_line.safeline.modules.report.exception.InvalidExportFormatException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ReportExportFormat fromParam(String format) {
+        for (ReportExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new InvalidExportFormatException();
+    }
+}
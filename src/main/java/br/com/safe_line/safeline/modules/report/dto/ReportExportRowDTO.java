@@ -0,0 +1,19 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha da exportação de denúncias. "cursor" permite retomar a exportação
+ * a partir desta linha (parâmetro cursor de /api/v1/report/export).
+ */
+public record ReportExportRowDTO(
+        String cursor,
+        UUID id,
+        String phone,
+        LocalDateTime callDate,
+        String company,
+        String description,
+        Boolean status
+) {
+}
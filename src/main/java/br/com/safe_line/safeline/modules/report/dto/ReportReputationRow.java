@@ -0,0 +1,12 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import java.time.LocalDateTime;
+
+// Projeção mínima usada para reconstruir o índice de reputação na subida
+public record ReportReputationRow(
+        Long phoneNumber,
+        LocalDateTime callDate,
+        String company,
+        Boolean status
+) {
+}
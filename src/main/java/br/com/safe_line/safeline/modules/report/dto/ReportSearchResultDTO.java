@@ -0,0 +1,19 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// snippet: trecho da descrição com os termos encontrados entre <mark></mark> (resto do texto já escapado)
+@Builder
+public record ReportSearchResultDTO(
+        UUID id,
+        String phone,
+        LocalDateTime callDate,
+        String company,
+        Boolean status,
+        String snippet,
+        float rank
+) {
+}
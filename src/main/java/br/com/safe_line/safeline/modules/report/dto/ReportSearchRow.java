@@ -0,0 +1,22 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Projeção da consulta nativa de busca textual (aliases entre aspas na query)
+public interface ReportSearchRow {
+
+    UUID getId();
+
+    String getPhone();
+
+    LocalDateTime getCallDate();
+
+    String getCompany();
+
+    Boolean getStatus();
+
+    String getSnippet();
+
+    Float getRank();
+}
@@ -0,0 +1,12 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+public record RollupBucketDTO(
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm")
+        LocalDateTime bucketStart,
+        long reports
+) {
+}
@@ -0,0 +1,7 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+public record RollupCountDTO(
+        String value,
+        long reports
+) {
+}
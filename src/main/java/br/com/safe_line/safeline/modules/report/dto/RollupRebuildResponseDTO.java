@@ -0,0 +1,15 @@
+package br.com.safe_line.safeline.modules.report.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record RollupRebuildResponseDTO(
+        LocalDate from,
+        LocalDate to,
+        int weeks,
+        long rows,
+        long durationMs
+) {
+}
@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.report.exception;
+
+public class DuplicateReportException extends RuntimeException {
+
+    public DuplicateReportException() {
+        super("denúncia duplicada: este telefone já foi denunciado por você neste intervalo");
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.report.exception;
+
+public class InvalidAnalyticsParameterException extends RuntimeException {
+
+    public InvalidAnalyticsParameterException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.report.exception;
+
+public class InvalidBulkPayloadException extends RuntimeException {
+
+    public InvalidBulkPayloadException(String message) {
+        super(message);
+    }
+
+}
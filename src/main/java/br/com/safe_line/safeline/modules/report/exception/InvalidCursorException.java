@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.report.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException() {
+        super("cursor inválido");
+    }
+
+}
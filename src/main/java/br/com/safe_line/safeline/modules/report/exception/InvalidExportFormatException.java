@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.report.exception;
+
+public class InvalidExportFormatException extends RuntimeException {
+
+    public InvalidExportFormatException() {
+        super("formato de exportação inválido (use ndjson ou csv)");
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.report.exception;
+
+public class InvalidPhoneNumberException extends RuntimeException {
+
+    public InvalidPhoneNumberException() {
+        super("número de telefone inválido");
+    }
+
+}
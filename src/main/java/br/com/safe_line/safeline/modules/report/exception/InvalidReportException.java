@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.report.exception;
+
+public class InvalidReportException extends RuntimeException {
+
+    public InvalidReportException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.safe_line.safeline.modules.report.exception;
+
+public class InvalidSearchQueryException extends RuntimeException {
+
+    public InvalidSearchQueryException() {
+        super("termo de busca inválido (de 2 a 200 caracteres)");
+    }
+
+}
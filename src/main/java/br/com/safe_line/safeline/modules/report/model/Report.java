@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_report")
+@Table(name = "tb_report", indexes = {
+        @Index(name = "idx_report_call_date_id", columnList = "call_date DESC, id DESC"),
+        @Index(name = "idx_report_phone_number", columnList = "phone_number")
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -27,9 +30,14 @@ public class Report {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // Telefone normalizado em E.164 ("+5511987654321")
     @Column(nullable = false)
     private String phone;
 
+    // Mesmo número em E.164 só com dígitos (5511987654321): chave indexada das buscas
+    @Column(name = "phone_number")
+    private Long phoneNumber;
+
     @Column(nullable = false)
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm")
     private LocalDateTime callDate;
@@ -0,0 +1,52 @@
+package br.com.safe_line.safeline.modules.report.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Denúncia aceita mas ainda não gravada em tb_report (modo assíncrono).
+ *
+ * Só existe para o ddl-auto criar a tabela: a escrita e a leitura são feitas
+ * via JDBC pelo ReportIntakeService. O id já é o id definitivo da denúncia.
+ */
+@Entity
+@Table(name = "tb_report_outbox", indexes = {
+        @Index(name = "idx_report_outbox_created_at", columnList = "created_at")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportOutbox {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "phone_number", nullable = false)
+    private Long phoneNumber;
+
+    @Column(name = "call_date", nullable = false)
+    private LocalDateTime callDate;
+
+    @Column(nullable = false)
+    private String company;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
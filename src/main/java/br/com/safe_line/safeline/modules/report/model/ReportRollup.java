@@ -0,0 +1,27 @@
+package br.com.safe_line.safeline.modules.report.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Contador pré-agregado de denúncias por balde de tempo (lido pelos endpoints de analytics)
+@Entity
+@Table(name = "tb_report_rollup", indexes = {
+        @Index(name = "idx_report_rollup_bucket_start", columnList = "bucket_start")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportRollup {
+
+    @EmbeddedId
+    private ReportRollupId id;
+
+    @Column(name = "report_count", nullable = false)
+    private long reportCount;
+}
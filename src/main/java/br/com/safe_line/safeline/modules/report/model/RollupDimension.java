@@ -0,0 +1,10 @@
+package br.com.safe_line.safeline.modules.report.model;
+
+// O que cada linha de rollup conta dentro do balde de tempo
+public enum RollupDimension {
+
+    TOTAL,   // todas as denúncias (dimension_value vazio)
+    COMPANY, // por empresa (dimension_value = empresa)
+    STATUS   // por status (dimension_value = "true"/"false")
+
+}
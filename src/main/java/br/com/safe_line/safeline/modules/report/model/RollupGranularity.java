@@ -0,0 +1,34 @@
+package br.com.safe_line.safeline.modules.report.model;
+
+import br.com.safe_line.safeline.modules.report.exception.InvalidAnalyticsParameterException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+// Tamanho do balde de tempo dos rollups (semana começa na segunda, como date_trunc('week'))
+public enum RollupGranularity {
+
+    HOUR,
+    DAY,
+    WEEK;
+
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        return switch (this) {
+            case HOUR -> dateTime.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> dateTime.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> dateTime.truncatedTo(ChronoUnit.DAYS)
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+
+    public static RollupGranularity fromParam(String granularity) {
+        for (RollupGranularity value : values()) {
+            if (value.name().equalsIgnoreCase(granularity)) {
+                return value;
+            }
+        }
+        throw new InvalidAnalyticsParameterException("granularidade inválida (use hour, day ou week)");
+    }
+}
@@ -1,13 +1,120 @@
 package br.com.safe_line.safeline.modules.report.repository;
 
+import br.com.safe_line.safeline.modules.report.dto.ReportReputationRow;
+import br.com.safe_line.safeline.modules.report.dto.ReportResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.ReportSearchRow;
 import br.com.safe_line.safeline.modules.report.model.Report;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ReportRepository extends JpaRepository<Report, UUID> {
+public interface ReportRepository extends JpaRepository<Report, UUID>, JpaSpecificationExecutor<Report> {
+
+    long countByPhoneNumber(Long phoneNumber);
+
+    // Paginação por keyset em (callDate, id) decrescente: custo constante em qualquer página.
+    // A comparação de linha (callDate, id) < (...) vira um ponto de partida em idx_report_call_date_id;
+    // a forma "a < x OR (a = x AND b < y)" obrigaria o Postgres a filtrar desde o topo do índice.
+    // Projeta direto no DTO de resposta (sem entidade gerenciada nem snapshot de dirty checking)
+    @Query("""
+            SELECT new br.com.safe_line.safeline.modules.report.dto.ReportResponseDTO(
+                       r.id, r.phone, r.callDate, r.company, r.description, r.status)
+              FROM Report r
+             ORDER BY r.callDate DESC, r.id DESC
+            """)
+    List<ReportResponseDTO> findFirstPage(Limit limit);
+
+    @Query("""
+            SELECT new br.com.safe_line.safeline.modules.report.dto.ReportResponseDTO(
+                       r.id, r.phone, r.callDate, r.company, r.description, r.status)
+              FROM Report r
+             WHERE (r.callDate, r.id) < (:callDate, :id)
+             ORDER BY r.callDate DESC, r.id DESC
+            """)
+    List<ReportResponseDTO> findPageAfter(LocalDateTime callDate, UUID id, Limit limit);
 
     //Optional<Report> findByEmail(String email);
 
+
+    // Exportação: cursor do banco somente-leitura, lido em blocos (fetch size) e na mesma ordem da listagem
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            SELECT r FROM Report r
+             ORDER BY r.callDate DESC, r.id DESC
+            """)
+    Stream<Report> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            SELECT r FROM Report r
+             WHERE (r.callDate, r.id) < (:callDate, :id)
+             ORDER BY r.callDate DESC, r.id DESC
+            """)
+    Stream<Report> streamAfter(LocalDateTime callDate, UUID id);
+
+    // Reconstrução do índice de reputação: só as colunas agregadas, lidas em blocos
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            SELECT new br.com.safe_line.safeline.modules.report.dto.ReportReputationRow(
+                       r.phoneNumber, r.callDate, r.company, r.status)
+              FROM Report r
+             WHERE r.phoneNumber IS NOT NULL
+            """)
+    Stream<ReportReputationRow> streamReputationRows();
+
+    // =============================
+    //   BUSCA TEXTUAL (tsvector + GIN)
+    // =============================
+    // search_vector é uma coluna gerada (ver schema.sql / V8). A relevância é calculada
+    // e ordenada no banco; ts_headline roda só nas linhas da página (subconsulta com LIMIT).
+    String SEARCH_SELECT = """
+            SELECT r.id AS "id", r.phone AS "phone", r.call_date AS "callDate", r.company AS "company",
+                   r.status AS "status", m.rank AS "rank",
+                   ts_headline('portuguese',
+                               replace(replace(replace(r.description, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                               m.query,
+                               'StartSel=<mark>, StopSel=</mark>, MaxWords=25, MinWords=8, MaxFragments=2, FragmentDelimiter=" ... "')
+                       AS "snippet"
+              FROM (SELECT r.id, q.query, ts_rank_cd(r.search_vector, q.query) AS rank
+                      FROM tb_report r, websearch_to_tsquery('portuguese', :query) AS q(query)
+                     WHERE r.search_vector @@ q.query
+            """;
+
+    String SEARCH_ORDER = """
+                     ORDER BY rank DESC, r.id DESC
+                     LIMIT :limit) m
+              JOIN tb_report r ON r.id = m.id
+             ORDER BY m.rank DESC, m.id DESC
+            """;
+
+    @Query(nativeQuery = true, value = SEARCH_SELECT + SEARCH_ORDER)
+    List<ReportSearchRow> searchFirstPage(String query, int limit);
+
+    @Query(nativeQuery = true, value = SEARCH_SELECT + """
+                       AND (ts_rank_cd(r.search_vector, q.query) < :rank
+                            OR (ts_rank_cd(r.search_vector, q.query) = :rank AND r.id < :id))
+            """ + SEARCH_ORDER)
+    List<ReportSearchRow> searchPageAfter(String query, float rank, UUID id, int limit);
 }
@@ -0,0 +1,42 @@
+package br.com.safe_line.safeline.modules.report.repository;
+
+import br.com.safe_line.safeline.modules.report.dto.RollupBucketDTO;
+import br.com.safe_line.safeline.modules.report.dto.RollupCountDTO;
+import br.com.safe_line.safeline.modules.report.model.ReportRollup;
+import br.com.safe_line.safeline.modules.report.model.ReportRollupId;
+import br.com.safe_line.safeline.modules.report.model.RollupDimension;
+import br.com.safe_line.safeline.modules.report.model.RollupGranularity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Só lê tb_report_rollup: nenhuma consulta daqui toca tb_report
+public interface ReportRollupRepository extends JpaRepository<ReportRollup, ReportRollupId> {
+
+    @Query("""
+            SELECT new br.com.safe_line.safeline.modules.report.dto.RollupBucketDTO(r.id.bucketStart, r.reportCount)
+              FROM ReportRollup r
+             WHERE r.id.granularity = :granularity
+               AND r.id.dimension = br.com.safe_line.safeline.modules.report.model.RollupDimension.TOTAL
+               AND r.id.bucketStart >= :from
+               AND r.id.bucketStart < :to
+             ORDER BY r.id.bucketStart
+            """)
+    List<RollupBucketDTO> findTimeline(RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+            SELECT new br.com.safe_line.safeline.modules.report.dto.RollupCountDTO(r.id.dimensionValue, SUM(r.reportCount))
+              FROM ReportRollup r
+             WHERE r.id.granularity = :granularity
+               AND r.id.dimension = :dimension
+               AND r.id.bucketStart >= :from
+               AND r.id.bucketStart < :to
+             GROUP BY r.id.dimensionValue
+             ORDER BY SUM(r.reportCount) DESC
+            """)
+    List<RollupCountDTO> sumByValue(RollupGranularity granularity, RollupDimension dimension,
+                                    LocalDateTime from, LocalDateTime to, Limit limit);
+}
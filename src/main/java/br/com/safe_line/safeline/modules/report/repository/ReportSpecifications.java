@@ -0,0 +1,48 @@
+package br.com.safe_line.safeline.modules.report.repository;
+
+import br.com.safe_line.safeline.modules.report.model.Report;
+import br.com.safe_line.safeline.modules.report.service.PhoneNumberNormalizer;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ReportSpecifications {
+
+    private ReportSpecifications() {
+    }
+
+    /**
+     * Busca por prefixo sobre a coluna numérica phone_number.
+     *
+     * Um número E.164 nunca começa com 0, então a quantidade de dígitos define a
+     * faixa de valores: para cada tamanho possível o prefixo vira um BETWEEN,
+     * e todos usam o índice de phone_number (sem LIKE nem varredura).
+     */
+    public static Specification<Report> phoneNumberStartsWith(String prefixDigits) {
+        long prefix = Long.parseLong(prefixDigits);
+        int prefixLength = prefixDigits.length();
+        int minLength = Math.max(prefixLength, PhoneNumberNormalizer.MIN_DIGITS);
+
+        return (root, query, builder) -> {
+            List<Predicate> ranges = new ArrayList<>();
+            long scale = pow10(minLength - prefixLength);
+
+            for (int length = minLength; length <= PhoneNumberNormalizer.MAX_DIGITS; length++) {
+                ranges.add(builder.between(root.get("phoneNumber"), prefix * scale, (prefix + 1) * scale - 1));
+                scale *= 10;
+            }
+
+            return builder.or(ranges.toArray(Predicate[]::new));
+        };
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+}
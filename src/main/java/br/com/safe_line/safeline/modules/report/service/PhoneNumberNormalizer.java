@@ -0,0 +1,84 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.modules.report.exception.InvalidPhoneNumberException;
+
+/**
+ * Normaliza telefones para E.164 (só dígitos, com código do país).
+ *
+ * Números sem código do país são tratados como brasileiros (+55):
+ * "(11) 98765-4321", "011 98765-4321", "0 21 11 98765-4321" (com operadora),
+ * "+55 11 98765-4321" e "0055 11 98765-4321" viram todos 5511987654321.
+ * Sem "+" ou "00", números com menos de 10 dígitos (sem DDD) são rejeitados.
+ * O resultado cabe num long (E.164 tem no máximo 15 dígitos e nunca começa com 0).
+ */
+public final class PhoneNumberNormalizer {
+
+    public static final int MIN_DIGITS = 8;
+    public static final int MAX_DIGITS = 15;
+
+    private static final String DEFAULT_COUNTRY_CODE = "55";
+
+    private PhoneNumberNormalizer() {
+    }
+
+    /**
+     * @return número E.164 como long (sem o "+")
+     * @throws InvalidPhoneNumberException se não for possível normalizar
+     */
+    public static long normalize(String phone) {
+        if (phone == null || phone.isBlank()) {
+            throw new InvalidPhoneNumberException();
+        }
+
+        String trimmed = phone.trim();
+        String digits = digitsOf(trimmed);
+        String e164;
+
+        if (trimmed.startsWith("+")) {
+            e164 = digits;                                   // já internacional
+        } else if (digits.startsWith("00")) {
+            e164 = digits.substring(2);                      // prefixo internacional 00
+        } else if (digits.startsWith("0") && (digits.length() == 13 || digits.length() == 14)) {
+            e164 = DEFAULT_COUNTRY_CODE + digits.substring(3); // 0 + operadora + DDD + número
+        } else if (digits.startsWith("0") && (digits.length() == 11 || digits.length() == 12)) {
+            e164 = DEFAULT_COUNTRY_CODE + digits.substring(1); // 0 + DDD + número
+        } else if (digits.length() == 10 || digits.length() == 11) {
+            e164 = DEFAULT_COUNTRY_CODE + digits;            // DDD + número
+        } else if (digits.length() > 11) {
+            e164 = digits;                                   // assume que já tem código do país
+        } else {
+            throw new InvalidPhoneNumberException();         // sem DDD (ex.: "98765-4321")
+        }
+
+        if (e164.length() < MIN_DIGITS || e164.length() > MAX_DIGITS || e164.startsWith("0")) {
+            throw new InvalidPhoneNumberException();
+        }
+
+        return Long.parseLong(e164);
+    }
+
+    // Prefixo para busca: dígitos E.164 (com ou sem "+"), sem completar código do país
+    public static String normalizePrefix(String prefix) {
+        String digits = prefix == null ? "" : digitsOf(prefix);
+
+        if (digits.length() < 2 || digits.length() > MAX_DIGITS || digits.startsWith("0")) {
+            throw new InvalidPhoneNumberException();
+        }
+        return digits;
+    }
+
+    public static String format(long phoneNumber) {
+        return "+" + phoneNumber;
+    }
+
+    private static String digitsOf(String value) {
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Agregado imutável das denúncias de um telefone.
+ *
+ * Cada nova denúncia gera uma nova instância (with), então leitores nunca veem
+ * um agregado pela metade.
+ */
+public record PhoneReputation(
+        int totalReports,
+        LocalDateTime firstCallDate,
+        LocalDateTime lastCallDate,
+        List<String> companies,
+        boolean latestStatus
+) {
+
+    public static PhoneReputation of(LocalDateTime callDate, String company, boolean status) {
+        return new PhoneReputation(1, callDate, callDate, List.of(company.trim()), status);
+    }
+
+    // Soma mais uma denúncia; o status "mais recente" segue a maior callDate
+    public PhoneReputation with(LocalDateTime callDate, String company, boolean status) {
+        boolean isLatest = !callDate.isBefore(this.lastCallDate);
+
+        return new PhoneReputation(
+                this.totalReports + 1,
+                callDate.isBefore(this.firstCallDate) ? callDate : this.firstCallDate,
+                isLatest ? callDate : this.lastCallDate,
+                withCompany(company.trim()),
+                isLatest ? status : this.latestStatus
+        );
+    }
+
+    private List<String> withCompany(String company) {
+        for (String known : this.companies) {
+            if (known.equalsIgnoreCase(company)) {
+                return this.companies; // já contada
+            }
+        }
+        var companies = new ArrayList<String>(this.companies.size() + 1);
+        companies.addAll(this.companies);
+        companies.add(company);
+        return List.copyOf(companies);
+    }
+}
@@ -0,0 +1,209 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.modules.report.repository.ReportRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Índice em memória: telefone (E.164 como long) -> PhoneReputation.
+ *
+ * Serve o endpoint público de reputação sem ir ao Postgres. É reconstruído do
+ * banco na subida (antes do Tomcat aceitar requisições) e atualizado a cada
+ * denúncia salva por este nó.
+ *
+ * Internamente é uma tabela hash de endereçamento aberto com chaves long
+ * primitivas (sem boxing), dividida em partições com um StampedLock cada:
+ * leituras são otimistas (sem lock nem escrita em memória compartilhada) e só
+ * caem para o lock de leitura se uma escrita concorrente invalidar o carimbo.
+ */
+@Component
+@Slf4j
+public class PhoneReputationIndex implements SmartInitializingSingleton {
+
+    private static final int STRIPES = 64; // potência de 2
+    private static final int INITIAL_STRIPE_CAPACITY = 256; // potência de 2
+
+    // 0 nunca é um telefone E.164 válido: marca slot vazio
+    private static final long EMPTY = 0L;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final ReportRepository reportRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PhoneReputationIndex(ReportRepository reportRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.reportRepository = reportRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new Stripe();
+        }
+
+        meterRegistry.gauge("safeline.report.reputation.size", this, PhoneReputationIndex::size);
+    }
+
+    // =============================
+    //   CARGA INICIAL (BANCO)
+    // =============================
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+
+        this.readOnlyTransaction.executeWithoutResult(status -> {
+            try (var rows = this.reportRepository.streamReputationRows()) {
+                rows.forEach(row -> record(row.phoneNumber(), row.callDate(), row.company(),
+                        Boolean.TRUE.equals(row.status())));
+            }
+        });
+
+        log.info("Índice de reputação carregado com {} telefones em {} ms",
+                size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // =============================
+    //        ATUALIZAR
+    // =============================
+    public void record(long phoneNumber, LocalDateTime callDate, String company, boolean status) {
+        stripeFor(phoneNumber).merge(phoneNumber, callDate, company, status);
+    }
+
+    // =============================
+    //        CONSULTAR
+    // =============================
+
+    /**
+     * @return agregado do telefone, ou null se nunca foi denunciado
+     */
+    public PhoneReputation get(long phoneNumber) {
+        return stripeFor(phoneNumber).get(phoneNumber);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : this.stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(long phoneNumber) {
+        return this.stripes[(int) (mix(phoneNumber) >>> 58) & (STRIPES - 1)];
+    }
+
+    // Espalha os bits (telefones próximos caem em slots distantes)
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static final class Stripe {
+
+        private final StampedLock lock = new StampedLock();
+
+        // chaves e valores trocam juntos no crescimento: um único campo a ler
+        private Table table = new Table(INITIAL_STRIPE_CAPACITY);
+        private volatile int size;
+
+        PhoneReputation get(long key) {
+            long stamp = this.lock.tryOptimisticRead();
+            PhoneReputation value = this.table.find(key);
+            if (this.lock.validate(stamp)) {
+                return value;
+            }
+
+            stamp = this.lock.readLock();
+            try {
+                return this.table.find(key);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        void merge(long key, LocalDateTime callDate, String company, boolean status) {
+            long stamp = this.lock.writeLock();
+            try {
+                Table table = this.table;
+                int slot = table.slotOf(key);
+                if (table.keys[slot] == key) {
+                    table.values[slot] = table.values[slot].with(callDate, company, status);
+                    return;
+                }
+
+                table.values[slot] = PhoneReputation.of(callDate, company, status);
+                table.keys[slot] = key;
+                this.size = this.size + 1;
+
+                if (this.size * 2 > table.keys.length) {
+                    this.table = table.grow();
+                }
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+        private final PhoneReputation[] values;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new PhoneReputation[capacity];
+        }
+
+        // Sob leitura otimista o conteúdo pode estar mudando: a busca é limitada
+        // ao tamanho da tabela e o resultado só vale se o carimbo for validado
+        PhoneReputation find(long key) {
+            int mask = this.keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            for (int probes = 0; probes < this.keys.length; probes++) {
+                long current = this.keys[slot];
+                if (current == key) {
+                    return this.values[slot];
+                }
+                if (current == EMPTY) {
+                    return null;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        // Slot da chave ou o primeiro vazio da sequência (a tabela nunca passa de 50%)
+        int slotOf(long key) {
+            int mask = this.keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (this.keys[slot] != key && this.keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        Table grow() {
+            Table bigger = new Table(this.keys.length * 2);
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] != EMPTY) {
+                    int slot = bigger.slotOf(this.keys[i]);
+                    bigger.keys[slot] = this.keys[i];
+                    bigger.values[slot] = this.values[i];
+                }
+            }
+            return bigger;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.modules.report.dto.RollupBucketDTO;
+import br.com.safe_line.safeline.modules.report.dto.RollupCountDTO;
+import br.com.safe_line.safeline.modules.report.exception.InvalidAnalyticsParameterException;
+import br.com.safe_line.safeline.modules.report.model.RollupDimension;
+import br.com.safe_line.safeline.modules.report.model.RollupGranularity;
+import br.com.safe_line.safeline.modules.report.repository.ReportRollupRepository;
+import br.com.safe_line.safeline.modules.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Consultas dos dashboards: leem só tb_report_rollup, então o tempo de
+ * resposta depende do tamanho do intervalo pedido, não do tamanho de tb_report.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportAnalyticsService {
+
+    private final ReportRollupRepository reportRollupRepository;
+
+    @Value("${app.report.analytics.max-days}")
+    private long maxDays;
+
+    @Value("${app.report.analytics.max-hourly-days}")
+    private long maxHourlyDays;
+
+    // método para a série temporal de denúncias (um ponto por hora/dia/semana)
+    public BaseResponse<List<RollupBucketDTO>> getTimeline(String granularity, LocalDate from, LocalDate to) {
+
+        var rollupGranularity = RollupGranularity.fromParam(granularity);
+        validateRange(from, to, rollupGranularity == RollupGranularity.HOUR ? maxHourlyDays : maxDays);
+
+        // semana: inclui o balde que começa antes de "from" e contém esse dia
+        var start = rollupGranularity.truncate(from.atStartOfDay());
+
+        return BaseResponse.success(
+                "Série de denúncias encontrada com sucesso!",
+                reportRollupRepository.findTimeline(rollupGranularity, start, to.plusDays(1).atStartOfDay()),
+                HttpStatus.OK.value()
+        );
+    }
+
+    // método para o ranking de empresas mais denunciadas no intervalo
+    public BaseResponse<List<RollupCountDTO>> getByCompany(LocalDate from, LocalDate to, Integer limit) {
+
+        validateRange(from, to, maxDays);
+        int top = limit == null ? 20 : Math.max(1, Math.min(limit, 200));
+
+        return BaseResponse.success(
+                "Denúncias por empresa encontradas com sucesso!",
+                sumDaily(RollupDimension.COMPANY, from, to, top),
+                HttpStatus.OK.value()
+        );
+    }
+
+    // método para o total de denúncias por status no intervalo
+    public BaseResponse<List<RollupCountDTO>> getByStatus(LocalDate from, LocalDate to) {
+
+        validateRange(from, to, maxDays);
+
+        return BaseResponse.success(
+                "Denúncias por status encontradas com sucesso!",
+                sumDaily(RollupDimension.STATUS, from, to, 2),
+                HttpStatus.OK.value()
+        );
+    }
+
+    // Totais de um intervalo em dias: soma os baldes diários
+    private List<RollupCountDTO> sumDaily(RollupDimension dimension, LocalDate from, LocalDate to, int limit) {
+        return reportRollupRepository.sumByValue(RollupGranularity.DAY, dimension,
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay(), Limit.of(limit));
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to, long maxDays) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new InvalidAnalyticsParameterException("intervalo inválido (from deve ser anterior ou igual a to)");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxDays) {
+            throw new InvalidAnalyticsParameterException("intervalo máximo de " + maxDays + " dias");
+        }
+    }
+}
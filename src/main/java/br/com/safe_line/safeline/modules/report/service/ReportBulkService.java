@@ -0,0 +1,310 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.config.JdbcTimestamps;
+import br.com.safe_line.safeline.modules.report.dto.BulkReportItemResultDTO;
+import br.com.safe_line.safeline.modules.report.dto.BulkReportResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.ReportRequestDTO;
+import br.com.safe_line.safeline.modules.report.exception.DuplicateReportException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidBulkPayloadException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidPhoneNumberException;
+import br.com.safe_line.safeline.modules.response.BaseResponse;
+import br.com.safe_line.safeline.modules.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ingestão em lote de denúncias (parceiros enviando milhares de uma vez).
+ *
+ * Em vez de um findById + um INSERT por denúncia: os itens são lidos em
+ * streaming (array JSON ou NDJSON), validados em memória, todos os usuários
+ * são conferidos com uma única consulta IN e as linhas válidas são gravadas
+ * com JDBC batch (ids gerados na aplicação), em blocos de uma transação cada.
+ */
+@Service
+@Slf4j
+public class ReportBulkService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tb_report (id, user_id, phone, phone_number, call_date, company, description, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final UserRepository userRepository;
+    private final PhoneReputationIndex phoneReputationIndex;
+    private final ReportDeduplicator reportDeduplicator;
+    private final ReportRollupService reportRollupService;
+    private final ReportDataVersion reportDataVersion;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTimestamps jdbcTimestamps;
+
+    @Value("${app.report.bulk.max-items}")
+    private int maxItems;
+
+    @Value("${app.report.bulk.batch-size}")
+    private int batchSize;
+
+    public ReportBulkService(UserRepository userRepository,
+                             PhoneReputationIndex phoneReputationIndex,
+                             ReportDeduplicator reportDeduplicator,
+                             ReportRollupService reportRollupService,
+                             ReportDataVersion reportDataVersion,
+                             ObjectMapper objectMapper,
+                             JdbcTemplate jdbcTemplate,
+                             JdbcTimestamps jdbcTimestamps,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.phoneReputationIndex = phoneReputationIndex;
+        this.reportDeduplicator = reportDeduplicator;
+        this.reportRollupService = reportRollupService;
+        this.reportDataVersion = reportDataVersion;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTimestamps = jdbcTimestamps;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // método para criar várias denúncias de uma vez (ndjson=false → array JSON)
+    public BaseResponse<BulkReportResponseDTO> createReports(InputStream body, boolean ndjson) throws IOException {
+
+        List<BulkItem> items = ndjson ? readNdjson(body) : readJsonArray(body);
+
+        validate(items);
+        checkUsers(items);
+        checkDuplicates(items);
+        insert(items);
+
+        var results = items.stream()
+                .map(BulkItem::toResult)
+                .toList();
+        int created = (int) results.stream().filter(BulkReportItemResultDTO::created).count();
+
+        return BaseResponse.success(
+                created == results.size() ? "Denúncias feitas com sucesso!" : "Lote processado com erros.",
+                BulkReportResponseDTO.builder()
+                        .received(results.size())
+                        .created(created)
+                        .rejected(results.size() - created)
+                        .items(results)
+                        .build(),
+                HttpStatus.OK.value()
+        );
+    }
+
+    // =============================
+    //          LEITURA
+    // =============================
+
+    // Array JSON: cada elemento vira uma árvore e é convertido separadamente,
+    // então um item com campo inválido não derruba o lote inteiro
+    private List<BulkItem> readJsonArray(InputStream body) throws IOException {
+        List<BulkItem> items = new ArrayList<>();
+
+        try (JsonParser parser = this.objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidBulkPayloadException("o corpo deve ser um array JSON");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == null) {
+                    throw new InvalidBulkPayloadException("array JSON incompleto");
+                }
+                checkLimit(items.size());
+                JsonNode node = parser.readValueAsTree();
+                items.add(toItem(items.size(), node));
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidBulkPayloadException("JSON malformado: " + e.getOriginalMessage());
+        }
+        return items;
+    }
+
+    // NDJSON: um objeto por linha; linhas em branco são ignoradas
+    private List<BulkItem> readNdjson(InputStream body) throws IOException {
+        List<BulkItem> items = new ArrayList<>();
+
+        try (var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                checkLimit(items.size());
+                try {
+                    items.add(toItem(items.size(), this.objectMapper.readTree(line)));
+                } catch (JsonProcessingException e) {
+                    items.add(BulkItem.rejected(items.size(), "JSON malformado"));
+                }
+            }
+        }
+        return items;
+    }
+
+    private BulkItem toItem(int index, JsonNode node) {
+        try {
+            return new BulkItem(index, this.objectMapper.treeToValue(node, ReportRequestDTO.class));
+        } catch (JsonProcessingException e) {
+            return BulkItem.rejected(index, "campos inválidos (datas no formato dd/MM/yyyy HH:mm)");
+        }
+    }
+
+    private void checkLimit(int count) {
+        if (count >= this.maxItems) {
+            throw new InvalidBulkPayloadException("lote excede o limite de " + this.maxItems + " itens");
+        }
+    }
+
+    // =============================
+    //         VALIDAÇÃO
+    // =============================
+    private void validate(List<BulkItem> items) {
+        for (BulkItem item : items) {
+            if (item.error != null) {
+                continue;
+            }
+            item.error = ReportRequestValidator.firstError(item.request);
+            if (item.error != null) {
+                continue;
+            }
+            try {
+                item.phoneNumber = PhoneNumberNormalizer.normalize(item.request.phone());
+            } catch (InvalidPhoneNumberException e) {
+                item.error = e.getMessage();
+            }
+        }
+    }
+
+    // Uma única consulta IN para todos os usuários do lote
+    private void checkUsers(List<BulkItem> items) {
+        Set<UUID> userIds = new HashSet<>();
+        for (BulkItem item : items) {
+            if (item.error == null) {
+                userIds.add(item.request.userId());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> existing = this.userRepository.findExistingIds(userIds);
+        for (BulkItem item : items) {
+            if (item.error == null && !existing.contains(item.request.userId())) {
+                item.error = "Usuário não encontrado.";
+            }
+        }
+    }
+
+    // Mesma regra do createdReport; pega também repetições dentro do próprio lote
+    private void checkDuplicates(List<BulkItem> items) {
+        for (BulkItem item : items) {
+            if (item.error != null) {
+                continue;
+            }
+            try {
+                item.dedupKey = this.reportDeduplicator.claim(
+                        item.request.userId(), item.phoneNumber, item.request.callDate());
+            } catch (DuplicateReportException e) {
+                item.error = e.getMessage();
+            }
+        }
+    }
+
+    // =============================
+    //          GRAVAÇÃO
+    // =============================
+    private void insert(List<BulkItem> items) {
+        List<BulkItem> valid = items.stream()
+                .filter(item -> item.error == null)
+                .toList();
+
+        for (int from = 0; from < valid.size(); from += this.batchSize) {
+            var chunk = valid.subList(from, Math.min(from + this.batchSize, valid.size()));
+            chunk.forEach(item -> item.id = UUID.randomUUID());
+
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> {
+                    this.jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, item) -> {
+                        var request = item.request;
+                        ps.setObject(1, item.id);
+                        ps.setObject(2, request.userId());
+                        ps.setString(3, PhoneNumberNormalizer.format(item.phoneNumber));
+                        ps.setLong(4, item.phoneNumber);
+                        this.jdbcTimestamps.bind(ps, 5, request.callDate());
+                        ps.setString(6, request.company());
+                        ps.setString(7, request.description());
+                        ps.setBoolean(8, true);
+                    });
+                    this.reportDataVersion.bumpInTransaction();
+                });
+            } catch (DataAccessException e) {
+                // O bloco inteiro volta atrás; os demais blocos seguem normalmente
+                log.error("Falha ao gravar bloco de {} denúncias: {}", chunk.size(), e.getMessage());
+                chunk.forEach(item -> {
+                    this.reportDeduplicator.release(item.dedupKey);
+                    item.id = null;
+                    item.error = "falha ao gravar, tente novamente";
+                });
+                continue;
+            }
+
+            chunk.forEach(item -> {
+                this.phoneReputationIndex.record(
+                        item.phoneNumber, item.request.callDate(), item.request.company(), true);
+                this.reportRollupService.record(item.request.callDate(), item.request.company(), true);
+            });
+            this.reportDataVersion.bump();
+        }
+    }
+
+    private static final class BulkItem {
+
+        private final int index;
+        private final ReportRequestDTO request;
+        private long phoneNumber;
+        private UUID id;
+        private String error;
+        private ReportDeduplicator.DedupKey dedupKey;
+
+        BulkItem(int index, ReportRequestDTO request) {
+            this.index = index;
+            this.request = request;
+        }
+
+        static BulkItem rejected(int index, String error) {
+            var item = new BulkItem(index, null);
+            item.error = error;
+            return item;
+        }
+
+        BulkReportItemResultDTO toResult() {
+            return BulkReportItemResultDTO.builder()
+                    .index(this.index)
+                    .created(this.error == null)
+                    .id(this.id)
+                    .error(this.error)
+                    .build();
+        }
+    }
+}
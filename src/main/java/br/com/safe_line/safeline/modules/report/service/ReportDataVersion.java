@@ -0,0 +1,92 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão dos dados de tb_report, usada como ETag forte das listagens.
+ *
+ * A versão é a sequence report_data_version_seq, compartilhada por todas as
+ * instâncias. Todo caminho que grava denúncias (createdReport, bulk, drenagem
+ * da outbox; qualquer mudança futura de status também) chama:
+ *
+ * - bumpInTransaction() dentro da transação de escrita: se o commit acontece,
+ *   a versão mudou, mesmo que o processo caia logo depois;
+ * - bump() depois do commit: a sequence avança fora de transação, então o
+ *   nextval de dentro já aparece antes do commit; um leitor que pegou essa
+ *   versão com os dados antigos é corrigido por este segundo avanço.
+ *
+ * Sequence em vez de uma linha com UPDATE: nextval não trava nada, então os
+ * INSERTs não fazem fila numa linha quente. A leitura é local (sem banco):
+ * o valor em memória é relido a cada app.report.etag.refresh-ms, como o
+ * RoleCatalog, e as ETags de todas as instâncias convergem nesse intervalo.
+ */
+@Component
+@Slf4j
+public class ReportDataVersion implements SmartInitializingSingleton {
+
+    private static final String NEXT_SQL = "SELECT nextval('report_data_version_seq')";
+    private static final String CURRENT_SQL = "SELECT last_value FROM report_data_version_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // -1 → ainda não lida: sem ETag (a listagem responde sempre 200)
+    private final AtomicLong version = new AtomicLong(-1);
+
+    public ReportDataVersion(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    // =============================
+    //          ESCRITA
+    // =============================
+
+    // Chamado dentro da transação que grava as denúncias
+    public void bumpInTransaction() {
+        this.jdbcTemplate.queryForObject(NEXT_SQL, Long.class);
+    }
+
+    // Chamado depois do commit; a instância que gravou já enxerga a versão nova
+    public void bump() {
+        try {
+            Long next = this.jdbcTemplate.queryForObject(NEXT_SQL, Long.class);
+            if (next != null) {
+                this.version.accumulateAndGet(next, Math::max);
+            }
+        } catch (RuntimeException e) {
+            // o nextval da transação já mudou a versão; o refresh traz o valor
+            log.warn("Falha ao avançar a versão das denúncias: {}", e.getMessage());
+        }
+    }
+
+    // =============================
+    //          LEITURA
+    // =============================
+    @Scheduled(fixedDelayString = "${app.report.etag.refresh-ms}")
+    public void refresh() {
+        try {
+            Long current = this.jdbcTemplate.queryForObject(CURRENT_SQL, Long.class);
+            if (current != null) {
+                this.version.accumulateAndGet(current, Math::max);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao ler a versão das denúncias: {}", e.getMessage());
+        }
+    }
+
+    // ETag forte, ex.: "42"; null enquanto a versão não foi lida
+    public String etag() {
+        long current = this.version.get();
+        return current < 0 ? null : "\"" + current + "\"";
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.modules.report.exception.DuplicateReportException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Barra denúncias quase duplicadas antes do INSERT.
+ *
+ * A chave é (usuário, telefone normalizado, janela do callDate): o mesmo
+ * usuário denunciando o mesmo número para uma ligação na mesma janela de
+ * app.report.dedup.window-minutes é considerado duplicado.
+ *
+ * As chaves ficam em gerações por horário de chegada (atual + anterior, cada
+ * uma com a duração da janela); a geração mais velha é descartada inteira na
+ * virada, sem varredura. A reserva é um putIfAbsent no ConcurrentHashMap, então
+ * duas requisições simultâneas com a mesma chave nunca passam as duas — sem
+ * lock global. Cada geração tem limite de tamanho; cheia, o filtro deixa passar.
+ *
+ * Vale por nó: réplicas diferentes não compartilham o índice.
+ */
+@Component
+public class ReportDeduplicator {
+
+    private final AtomicReference<Generations> generations;
+    private final Counter duplicates;
+
+    @Value("${app.report.dedup.enabled}")
+    private boolean enabled;
+
+    @Value("${app.report.dedup.max-entries}")
+    private int maxEntries;
+
+    private final long windowMillis;
+
+    public ReportDeduplicator(@Value("${app.report.dedup.window-minutes}") long windowMinutes,
+                              MeterRegistry meterRegistry) {
+        this.windowMillis = windowMinutes * 60_000L;
+        this.generations = new AtomicReference<>(new Generations(currentGeneration(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>()));
+        this.duplicates = Counter.builder("safeline.report.dedup.rejected")
+                .description("Denúncias recusadas por duplicidade")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserva a chave da denúncia.
+     *
+     * @return a chave reservada (para liberar se o INSERT falhar), ou null com o filtro desligado/cheio
+     * @throws DuplicateReportException se já houver uma igual
+     */
+    public DedupKey claim(UUID userId, long phoneNumber, LocalDateTime callDate) {
+        if (!this.enabled || callDate == null) {
+            return null; // sem callDate o próprio INSERT recusa (coluna NOT NULL)
+        }
+
+        var key = keyOf(userId, phoneNumber, callDate);
+        var current = rotate();
+
+        if (current.previous.containsKey(key) || current.current.putIfAbsent(key, Boolean.TRUE) != null) {
+            this.duplicates.increment();
+            throw new DuplicateReportException();
+        }
+
+        if (current.current.size() > this.maxEntries) {
+            current.current.remove(key); // sem espaço: não deduplica, mas também não cresce
+            return null;
+        }
+        return key;
+    }
+
+    // Libera a chave quando a gravação não aconteceu (a denúncia pode ser reenviada)
+    public void release(DedupKey key) {
+        if (key != null) {
+            var current = this.generations.get();
+            current.current.remove(key);
+            current.previous.remove(key); // a janela pode ter virado durante o INSERT
+        }
+    }
+
+    // Mesma liberação, a partir dos dados da denúncia (quem gravou não guardou a chave)
+    public void release(UUID userId, long phoneNumber, LocalDateTime callDate) {
+        if (this.enabled && callDate != null) {
+            release(keyOf(userId, phoneNumber, callDate));
+        }
+    }
+
+    private DedupKey keyOf(UUID userId, long phoneNumber, LocalDateTime callDate) {
+        return new DedupKey(userId, phoneNumber,
+                callDate.toInstant(ZoneOffset.UTC).toEpochMilli() / this.windowMillis);
+    }
+
+    private Generations rotate() {
+        long generation = currentGeneration();
+        while (true) {
+            var current = this.generations.get();
+            if (current.generation == generation) {
+                return current;
+            }
+            // Virou a janela: a atual vira anterior (ou some, se ficou mais de uma janela parada)
+            var previous = current.generation == generation - 1 ? current.current : new ConcurrentHashMap<DedupKey, Boolean>();
+            var next = new Generations(generation, new ConcurrentHashMap<>(), previous);
+            if (this.generations.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long currentGeneration() {
+        return System.currentTimeMillis() / this.windowMillis;
+    }
+
+    public record DedupKey(UUID userId, long phoneNumber, long window) {
+    }
+
+    private record Generations(long generation, Map<DedupKey, Boolean> current, Map<DedupKey, Boolean> previous) {
+    }
+}
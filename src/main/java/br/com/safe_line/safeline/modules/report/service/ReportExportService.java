@@ -0,0 +1,145 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.config.json.LocalDateTimeCodec;
+import br.com.safe_line.safeline.modules.report.dto.ReportCursor;
+import br.com.safe_line.safeline.modules.report.dto.ReportExportFormat;
+import br.com.safe_line.safeline.modules.report.dto.ReportExportRowDTO;
+import br.com.safe_line.safeline.modules.report.model.Report;
+import br.com.safe_line.safeline.modules.report.repository.ReportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Exportação completa de denúncias (NDJSON ou CSV) com memória constante.
+ *
+ * As linhas vêm de um cursor do banco (Stream + fetch size) e são escritas
+ * direto na saída; cada entidade é desanexada logo após ser escrita, então o
+ * heap não cresce com o número de linhas.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportExportService {
+
+    private static final String CSV_HEADER = "cursor,id,phone,callDate,company,description,status\n";
+
+    private final ReportRepository reportRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // método para exportar reports a partir de "position" (null → desde o início)
+    @Transactional(readOnly = true)
+    public void export(OutputStream out, ReportExportFormat format, ReportCursor position) throws IOException {
+
+        try (Stream<Report> reports = position == null
+                ? reportRepository.streamAll()
+                : reportRepository.streamAfter(position.callDate(), position.id())) {
+
+            if (format == ReportExportFormat.CSV) {
+                writeCsv(out, reports);
+            } else {
+                writeNdjson(out, reports);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(OutputStream out, Stream<Report> reports) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            reports.forEach(report -> {
+                try {
+                    writer.writeValue(generator, toRow(report));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeCsv(OutputStream out, Stream<Report> reports) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+
+        reports.forEach(report -> {
+            try {
+                var row = toRow(report);
+                writer.write(row.cursor());
+                writer.write(',');
+                writer.write(row.id().toString());
+                writer.write(',');
+                writeCsvField(writer, row.phone());
+                writer.write(',');
+                writer.write(LocalDateTimeCodec.format(row.callDate()));
+                writer.write(',');
+                writeCsvField(writer, row.company());
+                writer.write(',');
+                writeCsvField(writer, row.description());
+                writer.write(',');
+                writer.write(String.valueOf(row.status()));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        writer.flush();
+    }
+
+    // RFC 4180: campos com vírgula, aspas ou quebra de linha vão entre aspas (aspas duplicadas)
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private ReportExportRowDTO toRow(Report report) {
+        var row = new ReportExportRowDTO(
+                new ReportCursor(report.getCallDate(), report.getId()).encode(),
+                report.getId(),
+                report.getPhone(),
+                report.getCallDate(),
+                report.getCompany(),
+                report.getDescription(),
+                report.getStatus()
+        );
+
+        // já foi escrita: libera a entidade do contexto de persistência
+        entityManager.detach(report);
+        return row;
+    }
+}
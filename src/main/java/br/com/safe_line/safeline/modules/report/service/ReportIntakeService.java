@@ -0,0 +1,320 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.config.JdbcTimestamps;
+import br.com.safe_line.safeline.modules.report.dto.ReportAcceptedResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.ReportRequestDTO;
+import br.com.safe_line.safeline.modules.report.exception.InvalidReportException;
+import br.com.safe_line.safeline.modules.response.BaseResponse;
+import br.com.safe_line.safeline.modules.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recebimento assíncrono de denúncias (app.report.intake.async-enabled).
+ *
+ * A requisição só valida os campos em memória e faz um INSERT em
+ * tb_report_outbox, respondendo 202 com o id definitivo da denúncia. Workers
+ * em virtual threads drenam a outbox em lotes: cada lote é travado com
+ * FOR UPDATE SKIP LOCKED (vários workers e vários nós não pegam as mesmas
+ * linhas), os usuários são conferidos com uma consulta IN, as denúncias vão
+ * para tb_report em JDBC batch e as linhas saem da outbox — tudo na mesma
+ * transação. Depois do commit, os índices derivados (reputação e rollups)
+ * são atualizados.
+ */
+@Service
+@Slf4j
+public class ReportIntakeService {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO tb_report_outbox (id, user_id, phone_number, call_date, company, description, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String CLAIM_SQL = """
+            SELECT id, user_id, phone_number, call_date, company, description
+              FROM tb_report_outbox
+             ORDER BY created_at
+             LIMIT ?
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String INSERT_REPORT_SQL = """
+            INSERT INTO tb_report (id, user_id, phone, phone_number, call_date, company, description, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, TRUE)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM tb_report_outbox WHERE id = ANY (?)";
+
+    private static final String DEPTH_SQL = "SELECT count(*), min(created_at) FROM tb_report_outbox";
+
+    private final UserRepository userRepository;
+    private final ReportDeduplicator reportDeduplicator;
+    private final PhoneReputationIndex phoneReputationIndex;
+    private final ReportRollupService reportRollupService;
+    private final ReportDataVersion reportDataVersion;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTimestamps jdbcTimestamps;
+
+    private final Counter accepted;
+    private final Counter drained;
+    private final Counter dropped;
+    private final Timer batchTimer;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+    @Getter
+    @Value("${app.report.intake.async-enabled}")
+    private boolean asyncEnabled;
+
+    @Value("${app.report.intake.workers}")
+    private int workers;
+
+    @Value("${app.report.intake.batch-size}")
+    private int batchSize;
+
+    @Value("${app.report.intake.poll-interval-ms}")
+    private long pollIntervalMs;
+
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean running;
+
+    public ReportIntakeService(UserRepository userRepository,
+                               ReportDeduplicator reportDeduplicator,
+                               PhoneReputationIndex phoneReputationIndex,
+                               ReportRollupService reportRollupService,
+                               ReportDataVersion reportDataVersion,
+                               JdbcTemplate jdbcTemplate,
+                               JdbcTimestamps jdbcTimestamps,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.reportDeduplicator = reportDeduplicator;
+        this.phoneReputationIndex = phoneReputationIndex;
+        this.reportRollupService = reportRollupService;
+        this.reportDataVersion = reportDataVersion;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTimestamps = jdbcTimestamps;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.accepted = Counter.builder("safeline.report.intake.accepted")
+                .description("Denúncias aceitas na outbox (202)")
+                .register(meterRegistry);
+        this.drained = Counter.builder("safeline.report.intake.drained")
+                .description("Denúncias movidas da outbox para tb_report")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("safeline.report.intake.dropped")
+                .description("Denúncias descartadas da outbox (usuário inexistente)")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("safeline.report.intake.batch.duration")
+                .description("Tempo de cada lote drenado da outbox")
+                .register(meterRegistry);
+        meterRegistry.gauge("safeline.report.intake.queue_depth", this.queueDepth);
+        meterRegistry.gauge("safeline.report.intake.oldest_age_seconds", this.oldestAgeSeconds);
+    }
+
+    // =============================
+    //     INICIALIZAÇÃO
+    // =============================
+    @PostConstruct
+    void start() {
+        // Para desligar o modo assíncrono, esperar a outbox esvaziar (queue_depth = 0)
+        if (!this.asyncEnabled) {
+            return;
+        }
+
+        this.running = true;
+        var factory = Thread.ofVirtual().name("report-intake-", 0).factory();
+        for (int i = 0; i < this.workers; i++) {
+            Thread worker = factory.newThread(this::runWorker);
+            this.workerThreads.add(worker);
+            worker.start();
+        }
+    }
+
+    // =============================
+    //    ACEITAR (NA REQUISIÇÃO)
+    // =============================
+    public BaseResponse<ReportAcceptedResponseDTO> accept(ReportRequestDTO reportRequestDTO) {
+
+        String error = ReportRequestValidator.firstError(reportRequestDTO);
+        if (error != null) {
+            throw new InvalidReportException(error);
+        }
+        long phoneNumber = PhoneNumberNormalizer.normalize(reportRequestDTO.phone());
+
+        // Duplicada → 409 já aqui; o usuário só é conferido pelo worker
+        var dedupKey = reportDeduplicator.claim(reportRequestDTO.userId(), phoneNumber, reportRequestDTO.callDate());
+
+        UUID id = UUID.randomUUID();
+        try {
+            jdbcTemplate.update(APPEND_SQL, id, reportRequestDTO.userId(), phoneNumber,
+                    reportRequestDTO.callDate(), reportRequestDTO.company(), reportRequestDTO.description(),
+                    LocalDateTime.now());
+        } catch (RuntimeException e) {
+            reportDeduplicator.release(dedupKey);
+            throw e;
+        }
+        accepted.increment();
+
+        return BaseResponse.success(
+                "Denúncia recebida! Ela será registrada em instantes.",
+                ReportAcceptedResponseDTO.builder().id(id).build(),
+                HttpStatus.ACCEPTED.value()
+        );
+    }
+
+    // =============================
+    //          WORKERS
+    // =============================
+    private void runWorker() {
+        while (this.running) {
+            try {
+                int drainedRows = drainBatch();
+                if (drainedRows < this.batchSize) {
+                    // Outbox (quase) vazia: espera antes de consultar de novo
+                    TimeUnit.MILLISECONDS.sleep(this.pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // O lote volta atrás e continua na outbox para a próxima tentativa
+                log.error("Falha ao drenar a outbox de denúncias: {}", e.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(this.pollIntervalMs * 10);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    private int drainBatch() {
+        long start = System.nanoTime();
+        List<PendingReport> droppedReports = new ArrayList<>();
+
+        List<PendingReport> inserted = this.transactionTemplate.execute(status -> {
+            List<PendingReport> batch = this.jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new PendingReport(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("user_id", UUID.class),
+                    rs.getLong("phone_number"),
+                    rs.getObject("call_date", LocalDateTime.class),
+                    rs.getString("company"),
+                    rs.getString("description")
+            ), this.batchSize);
+
+            if (batch.isEmpty()) {
+                return batch;
+            }
+
+            Set<UUID> userIds = new HashSet<>();
+            batch.forEach(report -> userIds.add(report.userId()));
+            Set<UUID> existing = this.userRepository.findExistingIds(userIds);
+
+            List<PendingReport> valid = batch.stream()
+                    .filter(report -> existing.contains(report.userId()))
+                    .toList();
+
+            if (valid.size() < batch.size()) {
+                batch.stream()
+                        .filter(report -> !existing.contains(report.userId()))
+                        .forEach(droppedReports::add);
+                this.dropped.increment(batch.size() - valid.size());
+                log.warn("{} denúncias da outbox descartadas: usuário inexistente", batch.size() - valid.size());
+            }
+
+            this.jdbcTemplate.batchUpdate(INSERT_REPORT_SQL, valid, valid.size(), (ps, report) -> {
+                ps.setObject(1, report.id());
+                ps.setObject(2, report.userId());
+                ps.setString(3, PhoneNumberNormalizer.format(report.phoneNumber()));
+                ps.setLong(4, report.phoneNumber());
+                this.jdbcTimestamps.bind(ps, 5, report.callDate());
+                ps.setString(6, report.company());
+                ps.setString(7, report.description());
+            });
+
+            UUID[] ids = batch.stream().map(PendingReport::id).toArray(UUID[]::new);
+            this.jdbcTemplate.update(DELETE_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)));
+
+            if (!valid.isEmpty()) {
+                this.reportDataVersion.bumpInTransaction();
+            }
+            return valid;
+        });
+
+        // Descartadas saíram da outbox sem virar denúncia: libera a chave para que um reenvio não leve 409
+        droppedReports.forEach(report ->
+                this.reportDeduplicator.release(report.userId(), report.phoneNumber(), report.callDate()));
+
+        if (inserted == null || inserted.isEmpty()) {
+            return 0;
+        }
+
+        // Índices derivados só depois do commit
+        for (PendingReport report : inserted) {
+            this.phoneReputationIndex.record(report.phoneNumber(), report.callDate(), report.company(), true);
+            this.reportRollupService.record(report.callDate(), report.company(), true);
+        }
+        this.reportDataVersion.bump();
+        this.drained.increment(inserted.size());
+        this.batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        return inserted.size();
+    }
+
+    // =============================
+    //     MÉTRICAS DA FILA
+    // =============================
+    @Scheduled(fixedDelayString = "${app.report.intake.depth-refresh-ms}")
+    public void refreshQueueDepth() {
+        this.jdbcTemplate.query(DEPTH_SQL, rs -> {
+            this.queueDepth.set(rs.getLong(1));
+            var oldest = rs.getObject(2, LocalDateTime.class);
+            this.oldestAgeSeconds.set(oldest == null ? 0
+                    : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+        });
+    }
+
+    // =============================
+    //     DESLIGAMENTO
+    // =============================
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        this.running = false;
+        for (Thread worker : this.workerThreads) {
+            worker.interrupt();
+        }
+        for (Thread worker : this.workerThreads) {
+            worker.join(this.pollIntervalMs * 20);
+        }
+    }
+
+    private record PendingReport(UUID id, UUID userId, long phoneNumber, LocalDateTime callDate,
+                                 String company, String description) {
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.modules.report.dto.ReportRequestDTO;
+
+/**
+ * Validação dos campos de uma denúncia sem ir ao banco (o telefone é
+ * validado à parte pelo PhoneNumberNormalizer). Usada onde a gravação não
+ * acontece na própria requisição: lote e intake assíncrono.
+ */
+final class ReportRequestValidator {
+
+    static final int MAX_TEXT_LENGTH = 255;
+
+    private ReportRequestValidator() {
+    }
+
+    // @return mensagem do primeiro campo inválido, ou null se estiver tudo certo
+    static String firstError(ReportRequestDTO request) {
+        if (request.userId() == null) {
+            return "userId é obrigatório";
+        }
+        if (request.callDate() == null) {
+            return "callDate é obrigatório";
+        }
+        if (isBlankOrTooLong(request.company())) {
+            return "company é obrigatório (até " + MAX_TEXT_LENGTH + " caracteres)";
+        }
+        if (isBlankOrTooLong(request.description())) {
+            return "description é obrigatório (até " + MAX_TEXT_LENGTH + " caracteres)";
+        }
+        return null;
+    }
+
+    private static boolean isBlankOrTooLong(String value) {
+        return value == null || value.isBlank() || value.length() > MAX_TEXT_LENGTH;
+    }
+}
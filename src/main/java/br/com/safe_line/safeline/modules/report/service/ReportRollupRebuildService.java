@@ -0,0 +1,181 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.config.JdbcTimestamps;
+import br.com.safe_line.safeline.modules.report.dto.RollupRebuildResponseDTO;
+import br.com.safe_line.safeline.modules.report.exception.InvalidAnalyticsParameterException;
+import br.com.safe_line.safeline.modules.response.BaseResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recalcula tb_report_rollup a partir de tb_report.
+ *
+ * O intervalo é dividido em semanas (segunda a segunda): todos os baldes de
+ * hora, dia e semana de uma semana ficam dentro dela, então cada semana é
+ * recalculada de forma independente — em paralelo, cada uma na sua transação,
+ * com uma única varredura do índice de call_date.
+ *
+ * Roda todo dia para os últimos app.report.rollup.rebuild-days dias (corrige
+ * somas perdidas num crash antes do flush) e sob demanda pelo endpoint.
+ */
+@Service
+@Slf4j
+public class ReportRollupRebuildService {
+
+    private static final String DELETE_SQL = """
+            DELETE FROM tb_report_rollup
+             WHERE bucket_start >= ? AND bucket_start < ?
+            """;
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO tb_report_rollup (granularity, dimension, bucket_start, dimension_value, report_count)
+            SELECT g.granularity,
+                   d.dimension,
+                   date_trunc(g.unit, r.call_date),
+                   CASE d.dimension
+                       WHEN 'TOTAL' THEN ''
+                       WHEN 'COMPANY' THEN btrim(r.company)
+                       ELSE r.status::text
+                   END,
+                   count(*)
+              FROM tb_report r
+             CROSS JOIN (VALUES ('HOUR', 'hour'), ('DAY', 'day'), ('WEEK', 'week')) AS g (granularity, unit)
+             CROSS JOIN (VALUES ('TOTAL'), ('COMPANY'), ('STATUS')) AS d (dimension)
+             WHERE r.call_date >= ? AND r.call_date < ?
+             GROUP BY 1, 2, 3, 4
+            ON CONFLICT (granularity, dimension, bucket_start, dimension_value)
+            DO UPDATE SET report_count = EXCLUDED.report_count
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReportRollupService reportRollupService;
+    private final JdbcTimestamps jdbcTimestamps;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final Timer rebuildTimer;
+
+    @Value("${app.report.rollup.rebuild-days}")
+    private long rebuildDays;
+
+    @Value("${app.report.rollup.rebuild-max-days}")
+    private long rebuildMaxDays;
+
+    public ReportRollupRebuildService(JdbcTemplate jdbcTemplate,
+                                      ReportRollupService reportRollupService,
+                                      JdbcTimestamps jdbcTimestamps,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.report.rollup.rebuild-parallelism}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reportRollupService = reportRollupService;
+        this.jdbcTimestamps = jdbcTimestamps;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "report-rollup-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rebuildTimer = Timer.builder("safeline.report.rollup.rebuild.duration")
+                .description("Tempo de cada recálculo dos rollups")
+                .register(meterRegistry);
+    }
+
+    // =============================
+    //     EXECUÇÃO AGENDADA
+    // =============================
+    @Scheduled(cron = "${app.report.rollup.rebuild-cron}")
+    public void rebuildRecent() {
+        // dias de call_date como gravados (fuso do banco)
+        LocalDate today = this.jdbcTimestamps.today();
+        var result = rebuild(today.minusDays(this.rebuildDays), today);
+        log.info("Rollups recalculados de {} a {}: {} semanas, {} linhas em {} ms",
+                result.from(), result.to(), result.weeks(), result.rows(), result.durationMs());
+    }
+
+    // =============================
+    //        SOB DEMANDA
+    // =============================
+    public BaseResponse<RollupRebuildResponseDTO> rebuildRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new InvalidAnalyticsParameterException("intervalo inválido (from deve ser anterior ou igual a to)");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > this.rebuildMaxDays) {
+            throw new InvalidAnalyticsParameterException("intervalo máximo de " + this.rebuildMaxDays + " dias");
+        }
+
+        return BaseResponse.success(
+                "Rollups recalculados com sucesso!",
+                rebuild(from, to),
+                HttpStatus.OK.value()
+        );
+    }
+
+    // Recalcula as semanas que cobrem [from, to] (dias inclusivos), sem flush incremental no meio
+    private RollupRebuildResponseDTO rebuild(LocalDate from, LocalDate to) {
+        return this.reportRollupService.rebuildExclusively(() -> rebuildWeeks(from, to));
+    }
+
+    private RollupRebuildResponseDTO rebuildWeeks(LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+
+        LocalDate firstWeek = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate end = to.plusDays(1);
+
+        List<CompletableFuture<Integer>> weeks = new ArrayList<>();
+        for (LocalDate week = firstWeek; week.isBefore(end); week = week.plusWeeks(1)) {
+            LocalDate weekStart = week;
+            weeks.add(CompletableFuture.supplyAsync(() -> rebuildWeek(weekStart), this.executor));
+        }
+
+        long rows = weeks.stream()
+                .mapToLong(CompletableFuture::join)
+                .sum();
+
+        long elapsed = System.nanoTime() - start;
+        this.rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        return RollupRebuildResponseDTO.builder()
+                .from(firstWeek)
+                .to(firstWeek.plusWeeks(weeks.size()).minusDays(1))
+                .weeks(weeks.size())
+                .rows(rows)
+                .durationMs(elapsed / 1_000_000)
+                .build();
+    }
+
+    private int rebuildWeek(LocalDate weekStart) {
+        var from = weekStart.atStartOfDay();
+        var to = weekStart.plusWeeks(1).atStartOfDay();
+
+        Integer rows = this.transactionTemplate.execute(status -> {
+            this.jdbcTemplate.update(DELETE_SQL, from, to);
+            return this.jdbcTemplate.update(REBUILD_SQL, from, to);
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.executor.shutdownNow();
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.config.JdbcTimestamps;
+import br.com.safe_line.safeline.modules.report.model.RollupDimension;
+import br.com.safe_line.safeline.modules.report.model.RollupGranularity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Atualização incremental dos rollups de denúncias (tb_report_rollup).
+ *
+ * Cada denúncia gravada soma 1 em 9 contadores (hora/dia/semana × total/
+ * empresa/status). As somas ficam num mapa em memória e são descarregadas a
+ * cada app.report.rollup.flush-interval-ms com um único JDBC batch de upserts:
+ * muitas denúncias na mesma hora viram um só UPDATE, sem disputa de lock na
+ * linha quente. Se o processo cair antes do flush, o job de rebuild corrige.
+ */
+@Service
+@Slf4j
+public class ReportRollupService {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO tb_report_rollup (granularity, dimension, bucket_start, dimension_value, report_count)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (granularity, dimension, bucket_start, dimension_value)
+            DO UPDATE SET report_count = tb_report_rollup.report_count + EXCLUDED.report_count
+            """;
+
+    private static final RollupGranularity[] GRANULARITIES = RollupGranularity.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTimestamps jdbcTimestamps;
+    private final Counter flushedRows;
+
+    // contador -> quanto ainda falta somar no banco
+    private final Map<RollupKey, Long> pending = new ConcurrentHashMap<>();
+
+    // flush agendado, rebuild e o flush do desligamento nunca rodam juntos
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ReportRollupService(JdbcTemplate jdbcTemplate, JdbcTimestamps jdbcTimestamps, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcTimestamps = jdbcTimestamps;
+        this.flushedRows = Counter.builder("safeline.report.rollup.flushed")
+                .description("Contadores de rollup gravados no banco")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("safeline.report.rollup.pending", Tags.empty(), this.pending);
+    }
+
+    // =============================
+    //      CONTAR (NA ESCRITA)
+    // =============================
+    public void record(LocalDateTime callDate, String company, boolean status) {
+        String companyValue = company.trim();
+        String statusValue = String.valueOf(status);
+
+        // Baldes no horário gravado em call_date (fuso do banco), o mesmo que o
+        // date_trunc do recálculo enxerga; bucket_start é gravado sem conversão
+        LocalDateTime storedCallDate = this.jdbcTimestamps.toDatabase(callDate);
+
+        for (RollupGranularity granularity : GRANULARITIES) {
+            LocalDateTime bucketStart = granularity.truncate(storedCallDate);
+            increment(new RollupKey(granularity, RollupDimension.TOTAL, bucketStart, ""));
+            increment(new RollupKey(granularity, RollupDimension.COMPANY, bucketStart, companyValue));
+            increment(new RollupKey(granularity, RollupDimension.STATUS, bucketStart, statusValue));
+        }
+    }
+
+    private void increment(RollupKey key) {
+        this.pending.merge(key, 1L, Long::sum);
+    }
+
+    // =============================
+    //          FLUSH
+    // =============================
+    @Scheduled(fixedDelayString = "${app.report.rollup.flush-interval-ms}")
+    public void flush() {
+        if (this.pending.isEmpty() || !this.flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Roda um recálculo de tb_report_rollup sem contar nada duas vezes.
+     *
+     * As somas pendentes são gravadas antes e o lock de flush fica preso até o
+     * recálculo terminar (todas as transações commitadas): nenhum flush aplica
+     * por cima do valor recontado uma soma que o recálculo já incluiu. Somas
+     * registradas durante o recálculo são de denúncias que ele não viu e entram
+     * no próximo flush. Resta só a janela entre o commit de uma denúncia e o
+     * record() logo em seguida na mesma thread.
+     */
+    public <T> T rebuildExclusively(Supplier<T> rebuild) {
+        this.flushLock.lock();
+        try {
+            if (!flushPending()) {
+                throw new IllegalStateException("falha ao gravar somas pendentes dos rollups; recálculo cancelado");
+            }
+            return rebuild.get();
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    // false se a gravação falhou (as somas voltam para o mapa)
+    private boolean flushPending() {
+        if (this.pending.isEmpty()) {
+            return true;
+        }
+
+        // remove() é atômico por chave: o que for somado depois entra no próximo flush
+        List<Map.Entry<RollupKey, Long>> batch = new ArrayList<>(this.pending.size());
+        for (RollupKey key : this.pending.keySet()) {
+            Long delta = this.pending.remove(key);
+            if (delta != null) {
+                batch.add(Map.entry(key, delta));
+            }
+        }
+
+        try {
+            this.jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                RollupKey key = entry.getKey();
+                ps.setString(1, key.granularity().name());
+                ps.setString(2, key.dimension().name());
+                ps.setObject(3, key.bucketStart());
+                ps.setString(4, key.dimensionValue());
+                ps.setLong(5, entry.getValue());
+            });
+            this.flushedRows.increment(batch.size());
+            return true;
+        } catch (Exception e) {
+            // Devolve as somas para tentar de novo no próximo ciclo
+            log.error("Falha ao gravar {} contadores de rollup: {}", batch.size(), e.getMessage());
+            batch.forEach(entry -> this.pending.merge(entry.getKey(), entry.getValue(), Long::sum));
+            return false;
+        }
+    }
+
+    // Espera um flush em andamento e grava o que sobrou antes de encerrar
+    @PreDestroy
+    void shutdown() {
+        this.flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    private record RollupKey(RollupGranularity granularity, RollupDimension dimension,
+                             LocalDateTime bucketStart, String dimensionValue) {
+    }
+}
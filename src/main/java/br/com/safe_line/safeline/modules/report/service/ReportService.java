@@ -1,70 +1,185 @@
 package br.com.safe_line.safeline.modules.report.service;
 
+import br.com.safe_line.safeline.modules.report.dto.PhoneLookupResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.PhoneReputationResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.ReportCursor;
 import br.com.safe_line.safeline.modules.report.dto.ReportRequestDTO;
 import br.com.safe_line.safeline.modules.report.dto.ReportResponseDTO;
+import br.com.safe_line.safeline.modules.report.dto.ReportSearchCursor;
+import br.com.safe_line.safeline.modules.report.dto.ReportSearchResultDTO;
+import br.com.safe_line.safeline.modules.report.dto.ReportSearchRow;
 import br.com.safe_line.safeline.modules.report.exception.EmailAlreadyExistsException;
+import br.com.safe_line.safeline.modules.report.exception.InvalidSearchQueryException;
 import br.com.safe_line.safeline.modules.report.model.Report;
 import br.com.safe_line.safeline.modules.report.repository.ReportRepository;
+import br.com.safe_line.safeline.modules.report.repository.ReportSpecifications;
 import br.com.safe_line.safeline.modules.response.BaseResponse;
 import br.com.safe_line.safeline.modules.user.repository.UserRepository;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
 
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class ReportService {
 
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
+    private final PhoneReputationIndex phoneReputationIndex;
+    private final ReportDeduplicator reportDeduplicator;
+    private final ReportRollupService reportRollupService;
+    private final ReportDataVersion reportDataVersion;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.report.page.default-size}")
+    private int defaultPageSize;
+
+    @Value("${app.report.page.max-size}")
+    private int maxPageSize;
 
     // método para criar reports
     public BaseResponse<ReportResponseDTO> createdReport(ReportRequestDTO reportRequestDTO) {
 
+        // normaliza o telefone antes de qualquer consulta (inválido → 400)
+        long phoneNumber = PhoneNumberNormalizer.normalize(reportRequestDTO.phone());
+
         var user = userRepository.findById(reportRequestDTO.userId())
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
 
-        var reportSaved = reportRepository.save(
-                Report.builder()
-                        .user(user)
-                        .phone(reportRequestDTO.phone())
-                        .callDate(reportRequestDTO.callDate())
-                        .company(reportRequestDTO.company())
-                        .description(reportRequestDTO.description())
-                        .status(true)
-                        .build()
-        );
+        // quase duplicada (mesmo usuário + telefone na mesma janela) → 409, antes do INSERT
+        var dedupKey = reportDeduplicator.claim(user.getIdUser(), phoneNumber, reportRequestDTO.callDate());
+
+        Report reportSaved;
+        try {
+            // INSERT + versão das listagens na mesma transação
+            reportSaved = transactionTemplate.execute(status -> {
+                var saved = reportRepository.save(
+                        Report.builder()
+                                .user(user)
+                                .phone(PhoneNumberNormalizer.format(phoneNumber))
+                                .phoneNumber(phoneNumber)
+                                .callDate(reportRequestDTO.callDate())
+                                .company(reportRequestDTO.company())
+                                .description(reportRequestDTO.description())
+                                .status(true)
+                                .build()
+                );
+                reportDataVersion.bumpInTransaction();
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            reportDeduplicator.release(dedupKey);
+            throw e;
+        }
+
+        phoneReputationIndex.record(phoneNumber, reportSaved.getCallDate(), reportSaved.getCompany(),
+                reportSaved.getStatus());
+        reportRollupService.record(reportSaved.getCallDate(), reportSaved.getCompany(), reportSaved.getStatus());
+        reportDataVersion.bump();
 
         return BaseResponse.success(
                 "Denúncia feita com sucesso!",
-                ReportResponseDTO.builder()
-                        .id(reportSaved.getId())
-                        .phone(reportSaved.getPhone())
-                        .callDate(reportSaved.getCallDate())
-                        .company(reportSaved.getCompany())
-                        .description(reportSaved.getDescription())
-                        .status(reportSaved.getStatus())
-                        .build(),
+                toResponse(reportSaved),
                 HttpStatus.CREATED.value()
         );
     }
 
-    // método para retornar reports
-    public BaseResponse<Set<ReportResponseDTO>> getAllReport() {
+    // método para retornar reports (paginação por cursor, mais recentes primeiro)
+    @Transactional(readOnly = true)
+    public BaseResponse<List<ReportResponseDTO>> getAllReport(String cursor, Integer size) {
+
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+
+        // busca um item a mais só para saber se existe próxima página
+        Limit limit = Limit.of(pageSize + 1);
+        List<ReportResponseDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = reportRepository.findFirstPage(limit);
+        } else {
+            var position = ReportCursor.decode(cursor);
+            rows = reportRepository.findPageAfter(position.callDate(), position.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        var page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            var last = page.get(page.size() - 1);
+            nextCursor = new ReportCursor(last.callDate(), last.id()).encode();
+        }
+
+        return BaseResponse.success(
+                "Denúncias encontradas com sucesso!",
+                page,
+                HttpStatus.OK.value(),
+                nextCursor
+        );
+    }
+
+    // método para verificar se um telefone já foi denunciado (busca exata no índice)
+    public BaseResponse<PhoneLookupResponseDTO> lookupPhone(String phone) {
+
+        long phoneNumber = PhoneNumberNormalizer.normalize(phone);
+        long totalReports = reportRepository.countByPhoneNumber(phoneNumber);
+
+        return BaseResponse.success(
+                totalReports > 0 ? "Telefone já denunciado." : "Nenhuma denúncia para este telefone.",
+                PhoneLookupResponseDTO.builder()
+                        .phone(PhoneNumberNormalizer.format(phoneNumber))
+                        .reported(totalReports > 0)
+                        .totalReports(totalReports)
+                        .build(),
+                HttpStatus.OK.value()
+        );
+    }
+
+    // método para consultar a reputação de um telefone (só memória, sem banco)
+    public BaseResponse<PhoneReputationResponseDTO> getPhoneReputation(String phone) {
+
+        long phoneNumber = PhoneNumberNormalizer.normalize(phone);
+        var reputation = phoneReputationIndex.get(phoneNumber);
+
+        var response = PhoneReputationResponseDTO.builder()
+                .phone(PhoneNumberNormalizer.format(phoneNumber))
+                .reported(reputation != null);
+
+        if (reputation != null) {
+            response.totalReports(reputation.totalReports())
+                    .firstCallDate(reputation.firstCallDate())
+                    .lastCallDate(reputation.lastCallDate())
+                    .distinctCompanies(reputation.companies().size())
+                    .companies(reputation.companies())
+                    .latestStatus(reputation.latestStatus());
+        }
+
+        return BaseResponse.success(
+                reputation != null ? "Telefone já denunciado." : "Nenhuma denúncia para este telefone.",
+                response.build(),
+                HttpStatus.OK.value()
+        );
+    }
+
+    // método para buscar denúncias por prefixo de telefone (ex.: +5511)
+    @Transactional(readOnly = true)
+    public BaseResponse<List<ReportResponseDTO>> searchByPhonePrefix(String prefix, Integer size) {
+
+        String prefixDigits = PhoneNumberNormalizer.normalizePrefix(prefix);
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
 
-        var reports = reportRepository.findAll().stream()
-                .map(report -> ReportResponseDTO.builder()
-                        .id(report.getId())
-                        .phone(report.getPhone())
-                        .callDate(report.getCallDate())
-                        .company(report.getCompany())
-                        .description(report.getDescription())
-                        .status(report.getStatus())
-                        .build()
-                ).collect(Collectors.toSet());
+        var reports = reportRepository.findBy(
+                        ReportSpecifications.phoneNumberStartsWith(prefixDigits),
+                        query -> query.sortBy(Sort.by("phoneNumber", "callDate")).limit(pageSize).all())
+                .stream()
+                .map(this::toResponse)
+                .toList();
 
         return BaseResponse.success(
                 "Denúncias encontradas com sucesso!",
@@ -72,4 +187,62 @@ public class ReportService {
                 HttpStatus.OK.value()
         );
     }
-}
\ No newline at end of file
+
+    // método para busca textual nas descrições (mais relevantes primeiro, paginação por cursor)
+    @Transactional(readOnly = true)
+    public BaseResponse<List<ReportSearchResultDTO>> searchReports(String query, String cursor, Integer size) {
+
+        if (query == null || query.isBlank() || query.length() < 2 || query.length() > 200) {
+            throw new InvalidSearchQueryException();
+        }
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+
+        // busca um item a mais só para saber se existe próxima página
+        List<ReportSearchRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = reportRepository.searchFirstPage(query, pageSize + 1);
+        } else {
+            var position = ReportSearchCursor.decode(cursor);
+            rows = reportRepository.searchPageAfter(query, position.rank(), position.id(), pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        var page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        var results = page.stream()
+                .map(row -> ReportSearchResultDTO.builder()
+                        .id(row.getId())
+                        .phone(row.getPhone())
+                        .callDate(row.getCallDate())
+                        .company(row.getCompany())
+                        .status(row.getStatus())
+                        .snippet(row.getSnippet())
+                        .rank(row.getRank())
+                        .build())
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            var last = page.get(page.size() - 1);
+            nextCursor = new ReportSearchCursor(last.getRank(), last.getId()).encode();
+        }
+
+        return BaseResponse.success(
+                "Denúncias encontradas com sucesso!",
+                results,
+                HttpStatus.OK.value(),
+                nextCursor
+        );
+    }
+
+    private ReportResponseDTO toResponse(Report report) {
+        return ReportResponseDTO.builder()
+                .id(report.getId())
+                .phone(report.getPhone())
+                .callDate(report.getCallDate())
+                .company(report.getCompany())
+                .description(report.getDescription())
+                .status(report.getStatus())
+                .build();
+    }
+}
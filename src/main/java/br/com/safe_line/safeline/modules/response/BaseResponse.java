@@ -1,5 +1,6 @@
 package br.com.safe_line.safeline.modules.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,10 @@ public class BaseResponse<T> {
     private boolean success;
     private int statusCode;
 
+    // cursor opaco da próxima página (só em listagens paginadas)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public static <T> BaseResponse<T> success(String message, T data, int statusCode) {
         return BaseResponse.<T>builder()
                 .message(message)
@@ -24,6 +29,16 @@ public class BaseResponse<T> {
                 .build();
     }
 
+    public static <T> BaseResponse<T> success(String message, T data, int statusCode, String nextCursor) {
+        return BaseResponse.<T>builder()
+                .message(message)
+                .data(data)
+                .success(true)
+                .statusCode(statusCode)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     public static <T> BaseResponse<T> error (String message) {
         return BaseResponse.<T>builder()
                 .message(message)
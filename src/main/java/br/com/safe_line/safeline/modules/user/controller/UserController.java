@@ -7,6 +7,7 @@ import br.com.safe_line.safeline.modules.user.service.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Set;
@@ -28,4 +29,9 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(userService.getAllUsers());
     }
 
+    @GetMapping("/me")
+    public ResponseEntity<BaseResponse<UserResponseDTO>> getAuthenticatedUserController(@AuthenticationPrincipal Object principal) {
+        return ResponseEntity.status(HttpStatus.OK).body(userService.getAuthenticatedUser(principal));
+    }
+
 }
\ No newline at end of file
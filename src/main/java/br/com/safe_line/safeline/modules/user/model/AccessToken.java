@@ -11,7 +11,12 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_token")
+@Table(name = "tb_token", indexes = {
+        @Index(name = "ux_token_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_token_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_token_refresh_created", columnList = "refresh_token_id, created_at DESC"),
+        @Index(name = "idx_token_user", columnList = "user_id")
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -24,8 +29,10 @@ public class AccessToken {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID idToken;
 
-    @Column(columnDefinition = "TEXT")
-    private String token;
+    // SHA-256 (hex) do JWT: tamanho fixo e índice único usado em toda busca
+    // → o JWT completo não é mais armazenado
+    @Column(name = "token_hash", length = 64, nullable = false)
+    private String tokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY) //carrega qnd necessário (performance)
     @JoinColumn(name = "user_id")
@@ -40,7 +47,7 @@ public class AccessToken {
     @Builder.Default
     private boolean isRevoked = false;
 
-    @JoinColumn(nullable = false)
+    @JoinColumn(name = "refresh_token_id", nullable = false)
     @ManyToOne(fetch = FetchType.LAZY)
     private RefreshToken refreshToken;
 
@@ -11,7 +11,10 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_refresh_token")
+@Table(name = "tb_refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_token_user", columnList = "user_id")
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -6,8 +6,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Entity
 @Table(name = "tb_role")
@@ -24,5 +28,11 @@ public class Role {
     @Column(length = 60)
     private String name;
 
+    // Uma única instância de authority por nome de role, compartilhada por todos os usuários
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    public GrantedAuthority toAuthority() {
+        return AUTHORITIES.computeIfAbsent(this.name, SimpleGrantedAuthority::new);
+    }
 
 }
@@ -8,7 +8,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
@@ -19,6 +18,7 @@ import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "tb_user")
+@NamedEntityGraph(name = "User.roles", attributeNodes = @NamedAttributeNode("roles"))
 @Data
 @Builder
 @AllArgsConstructor
@@ -33,7 +33,8 @@ public class User implements UserDetails {
     @Column(length = 60)
     private String name;
 
-    @Column(nullable = false, length = 60, unique = true)
+    // Único sem diferenciar maiúsculas: índice funcional ux_user_email_lower em lower(email)
+    @Column(nullable = false, length = 60)
     private String email;
 
     @Size(min = 8, message = "a senha precisa ter no mínimo 8 caracteres")
@@ -47,7 +48,11 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Boolean status = true;
 
-    @OneToMany(fetch = FetchType.LAZY)
+    // Muitos usuários compartilham a mesma role; carregar via entity graph "User.roles"
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "tb_user_roles",
+            joinColumns = @JoinColumn(name = "user_id_user"),
+            inverseJoinColumns = @JoinColumn(name = "roles_id_role"))
     private Set<Role> roles;
 
 
@@ -78,8 +83,11 @@ public class User implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.roles.stream().map(role -> new SimpleGrantedAuthority(role.getName()))
-                .collect(Collectors.toSet());
+        if (this.roles == null) {
+            return Set.of();
+        }
+        return this.roles.stream().map(Role::toAuthority)
+                .collect(Collectors.toUnmodifiableSet());
     }
 
 
@@ -1,18 +1,74 @@
 package br.com.safe_line.safeline.modules.user.repository;
 
 import br.com.safe_line.safeline.modules.user.model.AccessToken;
-import br.com.safe_line.safeline.modules.user.model.RefreshToken;
 import br.com.safe_line.safeline.modules.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface AccessTokenRepository extends JpaRepository<AccessToken, UUID> {
 
-    Optional<AccessToken> findByToken(String token);
+    Optional<AccessToken> findByTokenHash(String tokenHash);
 
-    Optional<AccessToken> findFirstByRefreshTokenOrderByCreatedAtDesc(RefreshToken refreshToken);
+    // Fluxo de refresh em uma única consulta: último access token do refresh token,
+    // já com refresh token, usuário e roles; refresh revogado/expirado não retorna nada
+    @Query("""
+            SELECT t FROM AccessToken t
+              JOIN FETCH t.refreshToken r
+              JOIN FETCH t.user u
+              LEFT JOIN FETCH u.roles
+             WHERE r.idRefreshToken = :refreshTokenId
+               AND r.isRevoked = false
+               AND r.expiresAt > :now
+               AND t.createdAt = (SELECT MAX(t2.createdAt)
+                                    FROM AccessToken t2
+                                   WHERE t2.refreshToken = r)
+            """)
+    List<AccessToken> findLatestByActiveRefreshToken(UUID refreshTokenId, Instant now);
+
+    List<AccessToken> findAllByIsRevokedTrueAndExpiresAtAfter(Instant now);
+
+    // Apaga um lote de tokens expirados antes de "cutoff" (lotes curtos → locks curtos)
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM tb_token
+             WHERE id_token IN (SELECT id_token
+                                  FROM tb_token
+                                 WHERE expires_at < :cutoff
+                                 LIMIT :batchSize)
+            """, nativeQuery = true)
+    int deleteExpiredBatch(Instant cutoff, int batchSize);
+
+    // Revogação em massa: uma única UPDATE por usuário ("sair de todos os dispositivos")
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE AccessToken t
+               SET t.isRevoked = true
+             WHERE t.user.idUser = :userId
+               AND t.isRevoked = false
+               AND t.expiresAt > :now
+            """)
+    int revokeAllByUser(UUID userId, Instant now);
+
+    // Revogação em massa: uma única UPDATE por sessão (família de um refresh token)
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE AccessToken t
+               SET t.isRevoked = true
+             WHERE t.refreshToken.idRefreshToken = :refreshTokenId
+               AND t.isRevoked = false
+               AND t.expiresAt > :now
+            """)
+    int revokeAllByRefreshToken(UUID refreshTokenId, Instant now);
 }
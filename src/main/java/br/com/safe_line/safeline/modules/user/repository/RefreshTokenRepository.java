@@ -3,12 +3,50 @@ package br.com.safe_line.safeline.modules.user.repository;
 import br.com.safe_line.safeline.modules.user.model.RefreshToken;
 import br.com.safe_line.safeline.modules.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
+    // Apaga um lote de refresh tokens expirados que não têm mais access tokens apontando para eles
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM tb_refresh_token
+             WHERE id_refresh_token IN (SELECT r.id_refresh_token
+                                          FROM tb_refresh_token r
+                                         WHERE r.expires_at < :cutoff
+                                           AND NOT EXISTS (SELECT 1
+                                                             FROM tb_token t
+                                                            WHERE t.refresh_token_id = r.id_refresh_token)
+                                         LIMIT :batchSize)
+            """, nativeQuery = true)
+    int deleteExpiredBatch(Instant cutoff, int batchSize);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE RefreshToken r
+               SET r.isRevoked = true
+             WHERE r.user.idUser = :userId
+               AND r.isRevoked = false
+            """)
+    int revokeAllByUser(UUID userId);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE RefreshToken r
+               SET r.isRevoked = true
+             WHERE r.idRefreshToken = :refreshTokenId
+               AND r.isRevoked = false
+            """)
+    int revokeById(UUID refreshTokenId);
 }
@@ -1,15 +1,37 @@
 package br.com.safe_line.safeline.modules.user.repository;
 
+import br.com.safe_line.safeline.modules.user.dto.UserResponseDTO;
 import br.com.safe_line.safeline.modules.user.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    // Login: já traz as roles (claim "roles" do access token). lower(email) = mesma
+    // expressão do índice único ux_user_email_lower → busca direta no índice
+    @EntityGraph("User.roles")
+    @Query("SELECT u FROM User u WHERE lower(u.email) = lower(:email)")
     Optional<User> findByEmail(String email);
 
+    // JwtFilter no modo clássico: usuário + roles numa consulta só
+    @EntityGraph("User.roles")
+    Optional<User> findWithRolesByIdUser(UUID idUser);
+
+    // Listagem projetada direto no DTO (sem carregar a entidade nem a senha)
+    @Query("SELECT new br.com.safe_line.safeline.modules.user.dto.UserResponseDTO(u.name, u.email, u.createdAt) FROM User u")
+    List<UserResponseDTO> findAllResponses();
+
+    // Quais destes ids existem (uma consulta só, usada na ingestão em lote)
+    @Query("SELECT u.idUser FROM User u WHERE u.idUser IN :ids")
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
 }
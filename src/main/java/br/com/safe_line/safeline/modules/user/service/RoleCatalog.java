@@ -0,0 +1,131 @@
+package br.com.safe_line.safeline.modules.user.service;
+
+import br.com.safe_line.safeline.modules.user.model.Role;
+import br.com.safe_line.safeline.modules.user.repository.RoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catálogo imutável de roles em memória (tb_role é pequena e quase estática).
+ *
+ * Cada role vira uma única instância de GrantedAuthority (Role.toAuthority) e
+ * cada combinação de roles vira uma lista imutável pré-montada: resolver as
+ * authorities de uma requisição é uma busca em mapa — sem consulta e sem
+ * alocação. Recarregado na subida, depois do seed do DataInitializer e
+ * periodicamente (app.security.role-catalog.refresh-ms) para pegar mudanças
+ * feitas por outros nós.
+ */
+@Component
+@Slf4j
+public class RoleCatalog implements SmartInitializingSingleton {
+
+    private final RoleRepository roleRepository;
+
+    private volatile Catalog catalog = new Catalog(Map.of());
+
+    public RoleCatalog(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    // =============================
+    //        RECARREGAR
+    // =============================
+    @Scheduled(fixedDelayString = "${app.security.role-catalog.refresh-ms}")
+    public void refresh() {
+        Map<String, List<GrantedAuthority>> singles = new HashMap<>();
+        for (Role role : this.roleRepository.findAll()) {
+            singles.put(role.getName(), List.of(role.toAuthority()));
+        }
+
+        if (singles.keySet().equals(this.catalog.singles.keySet())) {
+            return; // nada mudou: mantém as combinações já montadas
+        }
+
+        this.catalog = new Catalog(Map.copyOf(singles));
+        log.info("Catálogo de roles carregado: {}", singles.keySet());
+    }
+
+    // =============================
+    //        CONSULTAR
+    // =============================
+
+    /**
+     * Authorities dos nomes de role (claim "roles" do JWT).
+     * Roles que não existem mais no catálogo são ignoradas.
+     */
+    public List<GrantedAuthority> authoritiesFor(List<String> roleNames) {
+        var current = this.catalog;
+        if (roleNames.size() == 1) {
+            var single = current.singles.get(roleNames.get(0));
+            return single != null ? single : List.of();
+        }
+        if (roleNames.isEmpty()) {
+            return List.of();
+        }
+
+        var combination = current.combinations.get(roleNames);
+        if (combination == null) {
+            combination = current.combinations.computeIfAbsent(List.copyOf(roleNames), current::resolve);
+        }
+        return combination;
+    }
+
+    // Authorities das roles da entidade (carregadas pelo entity graph)
+    public List<GrantedAuthority> authoritiesForRoles(Collection<Role> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+        if (roles.size() == 1) {
+            var single = this.catalog.singles.get(roles.iterator().next().getName());
+            return single != null ? single : List.of();
+        }
+
+        List<String> roleNames = new ArrayList<>(roles.size());
+        roles.forEach(role -> roleNames.add(role.getName()));
+        return authoritiesFor(roleNames);
+    }
+
+    public Set<String> roleNames() {
+        return this.catalog.singles.keySet();
+    }
+
+    private static final class Catalog {
+
+        // nome da role -> lista imutável com a sua authority
+        private final Map<String, List<GrantedAuthority>> singles;
+
+        // combinação de nomes (na ordem do token) -> authorities
+        private final Map<List<String>, List<GrantedAuthority>> combinations = new ConcurrentHashMap<>();
+
+        Catalog(Map<String, List<GrantedAuthority>> singles) {
+            this.singles = singles;
+        }
+
+        List<GrantedAuthority> resolve(List<String> roleNames) {
+            List<GrantedAuthority> authorities = new ArrayList<>(roleNames.size());
+            for (String roleName : roleNames) {
+                var single = this.singles.get(roleName);
+                if (single != null && !authorities.contains(single.get(0))) {
+                    authorities.add(single.get(0));
+                }
+            }
+            return List.copyOf(authorities);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.safe_line.safeline.modules.user.service;
 
+import br.com.safe_line.safeline.modules.auth.model.JwtPrincipal;
+import br.com.safe_line.safeline.modules.auth.service.PasswordHashingService;
 import br.com.safe_line.safeline.modules.response.BaseResponse;
 import br.com.safe_line.safeline.modules.user.dto.UserRequestDTO;
 import br.com.safe_line.safeline.modules.user.dto.UserResponseDTO;
@@ -7,50 +9,81 @@ import br.com.safe_line.safeline.modules.user.exception.EmailAlreadyExistsExcept
 import br.com.safe_line.safeline.modules.user.model.User;
 import br.com.safe_line.safeline.modules.user.repository.UserRepository;
 import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 @Service
 @AllArgsConstructor
 public class UserService implements UserDetailsService {
 
+    private static final String EMAIL_UNIQUE_INDEX = "ux_user_email_lower";
+
     private final UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     //metodo para criar usuarios
+    // Um único INSERT: quem garante email único (sem diferenciar maiúsculas) é o índice
+    // ux_user_email_lower — sem consulta prévia e sem corrida entre cadastros simultâneos
     public BaseResponse<UserResponseDTO> createdUser(UserRequestDTO userRequestDTO) {
 
-        //verificar se o usuário ja existe no banco de dados
-        userRepository.findByEmail(userRequestDTO.email()).ifPresent(user -> {
-            throw new EmailAlreadyExistsException();
-        });
-        var encoded = passwordEncoder.encode(userRequestDTO.password());
+        var encoded = passwordHashingService.encode(userRequestDTO.password());
 
-        var userSaved = userRepository.save(User.builder().name(userRequestDTO.name()).email(userRequestDTO.email())
-                .password(encoded).build());
+        User userSaved;
+        try {
+            userSaved = userRepository.saveAndFlush(User.builder().name(userRequestDTO.name())
+                    .email(userRequestDTO.email() == null ? null : userRequestDTO.email().trim())
+                    .password(encoded).build());
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConstraint(e)) {
+                throw new EmailAlreadyExistsException();
+            }
+            throw e;
+        }
 
         return BaseResponse.success("usuário cadastrado com sucesso!", UserResponseDTO.builder()
                 .name(userSaved.getName()).email(userSaved.getEmail()).createdAt(userSaved.getCreatedAt())
                         .build(), HttpStatus.CREATED.value());
     }
 
+    private static boolean isEmailConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return EMAIL_UNIQUE_INDEX.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
     //metodo para retornar usuários
+    @Transactional(readOnly = true)
     public BaseResponse<Set<UserResponseDTO>> getAllUsers(){
-        var users = userRepository.findAll().stream().map(user ->  UserResponseDTO.builder()
+        var users = new HashSet<>(userRepository.findAllResponses());
+        return BaseResponse.success("usuários encontrados com sucesso", users, HttpStatus.OK.value());
+    }
+
+    //metodo para retornar o usuário autenticado
+    public BaseResponse<UserResponseDTO> getAuthenticatedUser(Object principal) {
+        // modo stateless → principal leve (carrega a entidade agora); modo clássico → já é a entidade
+        var user = principal instanceof JwtPrincipal jwtPrincipal
+                ? loadUserById(jwtPrincipal.userId())
+                : (User) principal;
+        return BaseResponse.success("usuário encontrado com sucesso", UserResponseDTO.builder()
                 .name(user.getName())
                 .email(user.getEmail())
-                .createdAt(user.getCreatedAt()).build()).collect(Collectors.toSet());
-        return BaseResponse.success("usuários encontrados com sucesso", users, HttpStatus.OK.value());
+                .createdAt(user.getCreatedAt()).build(), HttpStatus.OK.value());
     }
 
     @Override
@@ -58,4 +91,10 @@ public class UserService implements UserDetailsService {
 
         return userRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException("user not found"));
     }
+
+    // carrega a entidade completa pelo id (subject do JWT) — usar só quando o controller precisar dela
+    public User loadUserById(UUID idUser) throws UsernameNotFoundException {
+
+        return userRepository.findWithRolesByIdUser(idUser).orElseThrow(() -> new UsernameNotFoundException("user not found"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+-- =====================================================================
+--  User.roles passou de @OneToMany para @ManyToMany.
+--  O @OneToMany unidirecional criava UNIQUE (roles_id_role) em
+--  tb_user_roles — só um usuário podia ter cada role. Remove essa
+--  constraint (nome gerado pelo Hibernate) e usa o par como chave.
+-- =====================================================================
+
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+          FROM pg_constraint c
+          JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+         WHERE c.conrelid = 'tb_user_roles'::regclass
+           AND c.contype = 'u'
+           AND array_length(c.conkey, 1) = 1
+           AND a.attname = 'roles_id_role'
+    LOOP
+        EXECUTE format('ALTER TABLE tb_user_roles DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = 'tb_user_roles'::regclass AND contype = 'p') THEN
+        ALTER TABLE tb_user_roles ADD PRIMARY KEY (user_id_user, roles_id_role);
+    END IF;
+END $$;
@@ -0,0 +1,27 @@
+-- =====================================================================
+--  Email único sem diferenciar maiúsculas (cadastro com um único INSERT)
+--  e índice do login: WHERE lower(email) = lower(?).
+--  Antes de rodar, conferir se há emails que só diferem na caixa:
+--    SELECT lower(email), count(*) FROM tb_user GROUP BY 1 HAVING count(*) > 1;
+--  Executar via psql FORA de uma transação (CREATE INDEX CONCURRENTLY).
+-- =====================================================================
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_user_email_lower ON tb_user (lower(email));
+
+-- A constraint UNIQUE (email) antiga (nome gerado pelo Hibernate) fica redundante
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+          FROM pg_constraint c
+          JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+         WHERE c.conrelid = 'tb_user'::regclass
+           AND c.contype = 'u'
+           AND array_length(c.conkey, 1) = 1
+           AND a.attname = 'email'
+    LOOP
+        EXECUTE format('ALTER TABLE tb_user DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,8 @@
+-- =====================================================================
+--  Versão dos dados de tb_report, usada como ETag de GET /api/v1/report.
+--  Sequence (e não uma linha com UPDATE): nextval não trava, então as
+--  gravações de denúncias não disputam uma linha quente. Todas as
+--  instâncias leem a mesma sequence (SELECT last_value).
+-- =====================================================================
+
+CREATE SEQUENCE IF NOT EXISTS report_data_version_seq;
@@ -0,0 +1,50 @@
+-- =====================================================================
+--  tb_token: troca o JWT completo (TEXT, sem índice) por token_hash
+--  (SHA-256 em hex, tamanho fixo, índice único).
+--
+--  Para bancos criados antes desta versão. Em desenvolvimento o schema é
+--  recriado pelo Hibernate (ddl-auto) e este script não é necessário.
+--  Executar via psql FORA de uma transação (CREATE INDEX CONCURRENTLY).
+-- =====================================================================
+
+-- 1. Nova coluna (nullable até o backfill terminar)
+ALTER TABLE tb_token ADD COLUMN IF NOT EXISTS token_hash VARCHAR(64);
+
+-- 2. Linhas sem JWT não podem ser encontradas por nenhuma busca
+DELETE FROM tb_token WHERE token IS NULL AND token_hash IS NULL;
+
+-- 3. Backfill em lotes, com COMMIT a cada lote para não segurar locks longos
+DO $$
+DECLARE
+    updated INTEGER;
+BEGIN
+    LOOP
+        UPDATE tb_token
+           SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex')
+         WHERE id_token IN (SELECT id_token
+                              FROM tb_token
+                             WHERE token_hash IS NULL
+                             LIMIT 10000);
+
+        GET DIAGNOSTICS updated = ROW_COUNT;
+        EXIT WHEN updated = 0;
+        COMMIT;
+    END LOOP;
+END $$;
+
+-- 4. Tokens idênticos (mesmo usuário no mesmo segundo, antes do jti) viram uma linha só
+DELETE FROM tb_token a
+      USING tb_token b
+      WHERE a.token_hash = b.token_hash
+        AND a.id_token < b.id_token;
+
+-- 5. Índice único usado por todas as buscas
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_token_token_hash ON tb_token (token_hash);
+
+ALTER TABLE tb_token ALTER COLUMN token_hash SET NOT NULL;
+
+-- 6. O JWT completo não é mais armazenado
+ALTER TABLE tb_token DROP COLUMN IF EXISTS token;
+
+-- 7. Nome explícito da FK para o refresh token (antes gerado pelo Hibernate)
+ALTER TABLE tb_token RENAME COLUMN refresh_token_id_refresh_token TO refresh_token_id;
@@ -0,0 +1,10 @@
+-- =====================================================================
+--  Índices usados pela retenção de tokens (DELETEs em lote por expires_at)
+--  Executar via psql FORA de uma transação (CREATE INDEX CONCURRENTLY).
+-- =====================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_token_expires_at ON tb_token (expires_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_token_refresh_token ON tb_token (refresh_token_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_refresh_token_expires_at ON tb_refresh_token (expires_at);
@@ -0,0 +1,9 @@
+-- =====================================================================
+--  Índice composto do fluxo de refresh: último access token de um refresh
+--  token (MAX(created_at) por refresh_token_id). Substitui o índice simples.
+--  Executar via psql FORA de uma transação (CREATE INDEX CONCURRENTLY).
+-- =====================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_token_refresh_created ON tb_token (refresh_token_id, created_at DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_token_refresh_token;
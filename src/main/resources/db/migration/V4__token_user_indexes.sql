@@ -0,0 +1,8 @@
+-- =====================================================================
+--  Índices da revogação em massa ("sair de todos os dispositivos")
+--  Executar via psql FORA de uma transação (CREATE INDEX CONCURRENTLY).
+-- =====================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_token_user ON tb_token (user_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_refresh_token_user ON tb_refresh_token (user_id);
@@ -0,0 +1,6 @@
+-- =====================================================================
+--  Índice da paginação por keyset de GET /api/v1/report
+--  Executar via psql FORA de uma transação (CREATE INDEX CONCURRENTLY).
+-- =====================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_report_call_date_id ON tb_report (call_date DESC, id DESC);
@@ -0,0 +1,50 @@
+-- =====================================================================
+--  tb_report: telefone normalizado em E.164 (phone = "+5511987654321")
+--  e chave numérica indexada (phone_number = 5511987654321).
+--  Mesmas regras de PhoneNumberNormalizer; inválidos ficam com NULL.
+--  Executar via psql FORA de uma transação (CREATE INDEX CONCURRENTLY).
+-- =====================================================================
+
+ALTER TABLE tb_report ADD COLUMN IF NOT EXISTS phone_number BIGINT;
+
+CREATE OR REPLACE FUNCTION pg_temp.safeline_e164(raw TEXT) RETURNS TEXT AS $$
+DECLARE
+    digits TEXT := regexp_replace(coalesce(raw, ''), '[^0-9]', '', 'g');
+    e164   TEXT;
+BEGIN
+    e164 := CASE
+                WHEN btrim(raw) LIKE '+%' THEN digits
+                WHEN digits LIKE '00%' THEN substr(digits, 3)
+                WHEN digits LIKE '0%' AND length(digits) IN (13, 14) THEN '55' || substr(digits, 4)
+                WHEN digits LIKE '0%' AND length(digits) IN (11, 12) THEN '55' || substr(digits, 2)
+                WHEN length(digits) IN (10, 11) THEN '55' || digits
+                ELSE digits
+            END;
+    IF length(e164) BETWEEN 8 AND 15 AND e164 NOT LIKE '0%' THEN
+        RETURN e164;
+    END IF;
+    RETURN NULL;
+END $$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Backfill em lotes de 10k (keyset por id) para não segurar locks longos
+DO $$
+DECLARE
+    last_id UUID := '00000000-0000-0000-0000-000000000000';
+    next_id UUID;
+BEGIN
+    LOOP
+        SELECT max(id) INTO next_id
+          FROM (SELECT id FROM tb_report WHERE id > last_id ORDER BY id LIMIT 10000) b;
+        EXIT WHEN next_id IS NULL;
+
+        UPDATE tb_report
+           SET phone_number = pg_temp.safeline_e164(phone)::BIGINT,
+               phone        = coalesce('+' || pg_temp.safeline_e164(phone), phone)
+         WHERE id > last_id AND id <= next_id;
+
+        last_id := next_id;
+        COMMIT;
+    END LOOP;
+END $$;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_report_phone_number ON tb_report (phone_number);
@@ -0,0 +1,18 @@
+-- =====================================================================
+--  Rollups de denúncias (contadores por hora/dia/semana × total/empresa/status)
+--  A chave primária começa por (granularity, dimension, bucket_start): é o
+--  mesmo prefixo das consultas de analytics e o alvo do ON CONFLICT.
+--  Depois de criar, popular com POST /api/v1/report/analytics/rebuild.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS tb_report_rollup (
+    granularity     VARCHAR(8)   NOT NULL,
+    dimension       VARCHAR(8)   NOT NULL,
+    bucket_start    TIMESTAMP(6) NOT NULL,
+    dimension_value VARCHAR(255) NOT NULL,
+    report_count    BIGINT       NOT NULL,
+    CONSTRAINT pk_report_rollup PRIMARY KEY (granularity, dimension, bucket_start, dimension_value)
+);
+
+-- O rebuild apaga por semana sem olhar granularidade/dimensão
+CREATE INDEX IF NOT EXISTS idx_report_rollup_bucket_start ON tb_report_rollup (bucket_start);
@@ -0,0 +1,16 @@
+-- =====================================================================
+--  Busca textual em tb_report (GET /api/v1/report/search)
+--  Coluna tsvector gerada (descrição peso A, empresa peso B, stemming em
+--  português) + índice GIN.
+--  ATENÇÃO: ADD COLUMN ... GENERATED STORED reescreve a tabela sob lock
+--  exclusivo — rodar em janela de manutenção.
+--  Executar via psql FORA de uma transação (CREATE INDEX CONCURRENTLY).
+-- =====================================================================
+
+ALTER TABLE tb_report ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(company, '')), 'B') ||
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(description, '')), 'A')
+    ) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_report_search_vector ON tb_report USING GIN (search_vector);
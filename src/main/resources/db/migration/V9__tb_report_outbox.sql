@@ -0,0 +1,16 @@
+-- =====================================================================
+--  Outbox do recebimento assíncrono de denúncias (app.report.intake)
+--  Os workers drenam por ordem de chegada com FOR UPDATE SKIP LOCKED.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS tb_report_outbox (
+    id           UUID         PRIMARY KEY,
+    user_id      UUID         NOT NULL,
+    phone_number BIGINT       NOT NULL,
+    call_date    TIMESTAMP(6) NOT NULL,
+    company      VARCHAR(255) NOT NULL,
+    description  VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_outbox_created_at ON tb_report_outbox (created_at);
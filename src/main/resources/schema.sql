@@ -0,0 +1,20 @@
+-- =====================================================================
+--  DDL que o Hibernate não gera, aplicada depois do ddl-auto
+--  (spring.jpa.defer-datasource-initialization). Tudo idempotente.
+--  Em produção o mesmo conteúdo está em db/migration.
+-- =====================================================================
+
+-- Busca textual nas denúncias (V8)
+ALTER TABLE tb_report ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(company, '')), 'B') ||
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(description, '')), 'A')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_report_search_vector ON tb_report USING GIN (search_vector);
+
+-- Email único sem diferenciar maiúsculas; também é o índice do login (V11)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_email_lower ON tb_user (lower(email));
+
+-- Versão dos dados de tb_report → ETag das listagens, compartilhada entre instâncias (V12)
+CREATE SEQUENCE IF NOT EXISTS report_data_version_seq;
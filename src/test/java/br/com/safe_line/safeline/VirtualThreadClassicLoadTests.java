@@ -0,0 +1,20 @@
+package br.com.safe_line.safeline;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Mesma carga de VirtualThreadLoadTests com o principal clássico
+ * (app.jwt.stateless-principal=false): o JwtFilter carrega o User do banco
+ * em toda requisição, disputando o limite de concorrência com o controller.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.jpa.show-sql=false",
+        "app.report.intake.async-enabled=false",
+        "app.security.login-throttle.enabled=false",
+        "app.jwt.stateless-principal=false"
+})
+class VirtualThreadClassicLoadTests extends VirtualThreadLoadTests {
+}
@@ -0,0 +1,235 @@
+package br.com.safe_line.safeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Carga com 10k conexões simultâneas no modo virtual threads.
+ *
+ * Cada conexão é uma virtual thread do cliente repetindo GET /api/v1/report
+ * (autenticado, sem If-None-Match, então toda chamada vai ao banco) até o fim
+ * do tempo. Mede vazão, latência p50/p99 e quantas chamadas foram recusadas
+ * com 503 pelo limite de concorrência do banco; nenhuma pode falhar de outro
+ * jeito (nem 401/403 por falta de conexão no JwtFilter).
+ *
+ * Esta classe roda o principal stateless; VirtualThreadClassicLoadTests
+ * repete com o modo clássico, que consulta o usuário no banco a cada
+ * requisição.
+ *
+ * Fora do build normal: mvn test -Pbenchmark (precisa do Postgres de
+ * application.yml e de ulimit -n acima de 2 × CONNECTIONS, já que cliente e
+ * servidor rodam no mesmo processo).
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.jpa.show-sql=false",
+        "app.report.intake.async-enabled=false",
+        "app.security.login-throttle.enabled=false"
+})
+class VirtualThreadLoadTests {
+
+    private static final int CONNECTIONS = 10_000;
+    private static final Duration DURATION = Duration.ofSeconds(30);
+    private static final int REPORTS = 1_000;
+    private static final String EMAIL = "load@benchmark.safeline.test";
+    private static final String PASSWORD = "benchmark-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${app.jwt.stateless-principal}")
+    private boolean statelessPrincipal;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private HttpClient client;
+    private String accessCookie;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+
+        post("/api/v1/user/create", """
+                {"name": "Load Test", "email": "%s", "password": "%s"}
+                """.formatted(EMAIL, PASSWORD));
+
+        var login = post("/api/v1/auth/login", """
+                {"email": "%s", "password": "%s"}
+                """.formatted(EMAIL, PASSWORD));
+        assertThat(login.statusCode()).isEqualTo(200);
+
+        this.accessCookie = login.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("access_token="))
+                .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                .findFirst()
+                .orElseThrow();
+
+        UUID userId = this.jdbcTemplate.queryForObject(
+                "SELECT id_user FROM tb_user WHERE email = ?", UUID.class, EMAIL);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        this.jdbcTemplate.batchUpdate("""
+                INSERT INTO tb_report (id, user_id, phone, phone_number, call_date, company, description, status)
+                VALUES (?, ?, ?, ?, ?, ?, ?, TRUE)
+                """, IntStream.range(0, REPORTS).boxed().toList(), 500, (ps, i) -> {
+            long phoneNumber = 5511910000000L + i;
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, userId);
+            ps.setString(3, "+" + phoneNumber);
+            ps.setLong(4, phoneNumber);
+            ps.setObject(5, base.plusMinutes(i));
+            ps.setString(6, "Empresa " + (i % 20));
+            ps.setString(7, "Carga " + i);
+        });
+    }
+
+    @AfterAll
+    void cleanUp() {
+        this.jdbcTemplate.update("""
+                DELETE FROM tb_report WHERE user_id IN (SELECT id_user FROM tb_user WHERE email = ?)
+                """, EMAIL);
+        this.jdbcTemplate.update("""
+                DELETE FROM tb_user_roles WHERE user_id_user IN (SELECT id_user FROM tb_user WHERE email = ?)
+                """, EMAIL);
+        this.jdbcTemplate.update("DELETE FROM tb_user WHERE email = ?", EMAIL);
+    }
+
+    @Test
+    void tenThousandConcurrentConnections() throws Exception {
+        var request = HttpRequest.newBuilder(uri("/api/v1/report?size=20"))
+                .header("Cookie", this.accessCookie)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        var ok = new LongAdder();
+        var busy = new LongAdder();
+        var failed = new LongAdder();
+        var latencyMs = new AtomicLongArray(60_001); // histograma por milissegundo
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+        // o prazo só começa a contar depois que todas as conexões foram enfileiradas
+        var start = new CountDownLatch(1);
+        var deadline = new AtomicLong();
+
+        try (ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONNECTIONS; i++) {
+                connections.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline.get()) {
+                        long begin = System.nanoTime();
+                        try {
+                            var response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+                            switch (response.statusCode()) {
+                                case 200 -> ok.increment();
+                                case 503 -> busy.increment();
+                                default -> {
+                                    failed.increment();
+                                    record(failures, "HTTP " + response.statusCode());
+                                }
+                            }
+                        } catch (Exception e) {
+                            failed.increment();
+                            record(failures, e.toString());
+                        }
+                        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+                        latencyMs.incrementAndGet((int) Math.min(elapsed, latencyMs.length() - 1));
+                    }
+                    return null;
+                });
+            }
+
+            deadline.set(System.nanoTime() + DURATION.toNanos());
+            start.countDown();
+        }
+
+        long total = ok.sum() + busy.sum() + failed.sum();
+        double seconds = DURATION.toMillis() / 1000.0;
+
+        System.out.printf("%n%-28s %s%n", "principal", this.statelessPrincipal ? "stateless" : "clássico");
+        System.out.printf("%-28s %,d%n", "conexões", CONNECTIONS);
+        System.out.printf("%-28s %,d%n", "requisições", total);
+        System.out.printf("%-28s %,.0f req/s%n", "vazão (200)", ok.sum() / seconds);
+        System.out.printf("%-28s %,d%n", "503 (banco ocupado)", busy.sum());
+        System.out.printf("%-28s %,d%n", "falhas", failed.sum());
+        System.out.printf("%-28s %d ms%n", "latência p50", percentile(latencyMs, total, 0.50));
+        System.out.printf("%-28s %d ms%n", "latência p99", percentile(latencyMs, total, 0.99));
+        System.out.printf("%-28s %,.0f%n", "recusas no semáforo",
+                this.meterRegistry.get("safeline.db.concurrency.rejected").functionCounter().count());
+
+        assertThat(failures).as("falhas além de 503").isEmpty();
+        assertThat(ok.sum()).isPositive();
+    }
+
+    // =============================
+    //          AUXILIARES
+    // =============================
+    // guarda só as primeiras falhas (o tamanho é aproximado, basta para o diagnóstico)
+    private static void record(Queue<String> failures, String failure) {
+        if (failures.size() < 20) {
+            failures.add(failure);
+        }
+    }
+
+    private static long percentile(AtomicLongArray histogram, long total, double quantile) {
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int ms = 0; ms < histogram.length(); ms++) {
+            seen += histogram.get(ms);
+            if (seen >= target) {
+                return ms;
+            }
+        }
+        return histogram.length() - 1;
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        return this.client.send(HttpRequest.newBuilder(uri(path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + this.port + path);
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.safe_line.safeline.config.json;
+
+import br.com.safe_line.safeline.modules.report.dto.ReportResponseDTO;
+import br.com.safe_line.safeline.modules.response.BaseResponse;
+import br.com.safe_line.safeline.modules.user.dto.UserResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH: ObjectMapper montado à mão (JacksonConfig antigo: JavaTimeModule +
+ * DateTimeFormatter) contra o mapper do Boot com Blackbird + SafeLineJsonModule.
+ *
+ * Payloads: uma página de 50 denúncias e uma lista de 50 usuários dentro de
+ * BaseResponse, e a leitura de uma data. Usa o profiler "gc" para reportar
+ * bytes alocados por operação. Fora do build normal: mvn test -Pbenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmarkTests {
+
+    private static final int PAGE_SIZE = 50;
+    private static final String DATE_TEXT = "18/10/2026 14:35";
+
+    private ObjectMapper legacyMapper;
+    private ObjectMapper currentMapper;
+
+    private BaseResponse<List<ReportResponseDTO>> reportPage;
+    private BaseResponse<List<UserResponseDTO>> userList;
+
+    @Setup
+    public void setup() {
+        this.legacyMapper = legacyMapper();
+        this.currentMapper = currentMapper();
+
+        LocalDateTime base = LocalDateTime.of(2026, 10, 18, 14, 35);
+        List<ReportResponseDTO> reports = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new ReportResponseDTO(
+                        UUID.randomUUID(),
+                        "+551199900" + String.format("%04d", i),
+                        base.minusMinutes(i * 7L),
+                        "Empresa " + (i % 10),
+                        "Ligação insistente oferecendo \"empréstimo\" consignado #" + i,
+                        i % 3 != 0))
+                .toList();
+        this.reportPage = BaseResponse.success("Reports encontrados", reports, 200, "b3BhcXVlLWN1cnNvcg");
+
+        List<UserResponseDTO> users = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new UserResponseDTO("Usuário " + i, "usuario" + i + "@safeline.test",
+                        base.minusDays(i)))
+                .toList();
+        this.userList = BaseResponse.success("Usuários encontrados", users, 200);
+    }
+
+    @Benchmark
+    public byte[] reportPageLegacy() throws Exception {
+        return this.legacyMapper.writeValueAsBytes(this.reportPage);
+    }
+
+    @Benchmark
+    public byte[] reportPageCurrent() throws Exception {
+        return this.currentMapper.writeValueAsBytes(this.reportPage);
+    }
+
+    @Benchmark
+    public byte[] userListLegacy() throws Exception {
+        return this.legacyMapper.writeValueAsBytes(this.userList);
+    }
+
+    @Benchmark
+    public byte[] userListCurrent() throws Exception {
+        return this.currentMapper.writeValueAsBytes(this.userList);
+    }
+
+    @Benchmark
+    public LocalDateTime readDateLegacy() throws Exception {
+        return this.legacyMapper.readValue('"' + DATE_TEXT + '"', LocalDateTime.class);
+    }
+
+    @Benchmark
+    public LocalDateTime readDateCurrent() throws Exception {
+        return this.currentMapper.readValue('"' + DATE_TEXT + '"', LocalDateTime.class);
+    }
+
+    // os dois mappers precisam produzir exatamente o mesmo JSON
+    @Test
+    void sameOutput() throws Exception {
+        setup();
+
+        assertThat(this.currentMapper.writeValueAsString(this.reportPage))
+                .isEqualTo(this.legacyMapper.writeValueAsString(this.reportPage));
+        assertThat(this.currentMapper.writeValueAsString(this.userList))
+                .isEqualTo(this.legacyMapper.writeValueAsString(this.userList));
+        assertThat(this.currentMapper.writeValueAsString(BaseResponse.error("falhou")))
+                .isEqualTo(this.legacyMapper.writeValueAsString(BaseResponse.error("falhou")));
+        assertThat(this.currentMapper.readValue('"' + DATE_TEXT + '"', LocalDateTime.class))
+                .isEqualTo(this.legacyMapper.readValue('"' + DATE_TEXT + '"', LocalDateTime.class));
+    }
+
+    @Tag("benchmark")
+    @Test
+    void runJmh() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JsonSerializationBenchmarkTests.class.getName() + "\\.")
+                .addProfiler("gc")
+                .build()).run();
+    }
+
+    // cópia do JacksonConfig anterior
+    private static ObjectMapper legacyMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        JavaTimeModule module = new JavaTimeModule();
+
+        module.addDeserializer(LocalDateTime.class,
+                new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")));
+
+        module.addSerializer(LocalDateTime.class,
+                new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")));
+
+        mapper.registerModule(module);
+        return mapper;
+    }
+
+    // o mesmo caminho do JacksonAutoConfiguration: builder do Boot + módulos do JacksonConfig
+    private static ObjectMapper currentMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule(), new SafeLineJsonModule())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.safe_line.safeline.modules.auth.service;
+
+import br.com.safe_line.safeline.modules.user.model.AccessToken;
+import br.com.safe_line.safeline.modules.user.model.User;
+import br.com.safe_line.safeline.modules.user.repository.AccessTokenRepository;
+import br.com.safe_line.safeline.modules.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.jwt.write-behind.enabled=false"
+})
+class JwtTokenServiceRefreshTests {
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void refreshRunsOneSelectAndOneInsert() {
+        User user = this.userRepository.save(User.builder()
+                .name("Refresh Test")
+                .email("refresh-" + UUID.randomUUID() + "@safeline.test")
+                .password("$2a$10$abcdefghijklmnopqrstuu")
+                .build());
+
+        var refreshToken = this.jwtTokenService.generateRefreshToken(user);
+
+        // access token anterior já expirado → o refresh é permitido
+        this.accessTokenRepository.save(AccessToken.builder()
+                .tokenHash(TokenDigest.sha256(UUID.randomUUID().toString()))
+                .user(user)
+                .refreshToken(refreshToken)
+                .expiresAt(Instant.now().minus(1, ChronoUnit.MINUTES))
+                .build());
+
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        String newAccessToken = this.jwtTokenService.refreshAccessToken(refreshToken.getIdRefreshToken().toString());
+
+        assertThat(newAccessToken).isNotBlank();
+        // 1 SELECT com fetch join (refresh + último access token + usuário + roles) e 1 INSERT do novo token
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void refreshFindsNothingForExpiredRefreshToken() {
+        User user = this.userRepository.save(User.builder()
+                .name("Expired Test")
+                .email("expired-" + UUID.randomUUID() + "@safeline.test")
+                .password("$2a$10$abcdefghijklmnopqrstuu")
+                .build());
+
+        var refreshToken = this.jwtTokenService.generateRefreshToken(user);
+
+        this.accessTokenRepository.save(AccessToken.builder()
+                .tokenHash(TokenDigest.sha256(UUID.randomUUID().toString()))
+                .user(user)
+                .refreshToken(refreshToken)
+                .expiresAt(Instant.now().minus(1, ChronoUnit.MINUTES))
+                .build());
+
+        assertThat(this.accessTokenRepository.findLatestByActiveRefreshToken(
+                refreshToken.getIdRefreshToken(), Instant.now().plus(8, ChronoUnit.DAYS))).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.modules.report.exception.InvalidPhoneNumberException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhoneNumberNormalizerTests {
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource(delimiter = '|', textBlock = """
+            (11) 98765-4321        | 5511987654321
+            11987654321            | 5511987654321
+            (11) 3456-7890         | 551134567890
+            011 98765-4321         | 5511987654321
+            011 3456-7890          | 551134567890
+            0 21 11 98765-4321     | 5511987654321
+            0 21 11 3456-7890      | 551134567890
+            +55 11 98765-4321      | 5511987654321
+            +55 (11) 3456-7890     | 551134567890
+            0055 11 98765-4321     | 5511987654321
+            5511987654321          | 5511987654321
+            +1 (415) 555-2671      | 14155552671
+            001 415 555 2671       | 14155552671
+            +44 20 7946 0958       | 442079460958
+            +351 912345678         | 351912345678
+            """)
+    void normalizesDocumentedFormats(String phone, long expected) {
+        assertThat(PhoneNumberNormalizer.normalize(phone)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "\"{0}\" → inválido")
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            " ",
+            "98765-4321",                // sem DDD
+            "3456-7890",                 // sem DDD
+            "987654321",
+            "123",
+            "abc",
+            "+55 11 98765-4321 0000000", // mais de 15 dígitos
+            "+0 11 98765-4321",          // E.164 nunca começa com 0
+            "0000 11 98765-4321"
+    })
+    void rejectsInvalidNumbers(String phone) {
+        assertThatThrownBy(() -> PhoneNumberNormalizer.normalize(phone))
+                .isInstanceOf(InvalidPhoneNumberException.class);
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource({
+            "+5511, 5511",
+            "55 11, 5511",
+            "+55 (11) 9876, 55119876"
+    })
+    void normalizesSearchPrefixes(String prefix, String expected) {
+        assertThat(PhoneNumberNormalizer.normalizePrefix(prefix)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "\"{0}\" → inválido")
+    @NullAndEmptySource
+    @ValueSource(strings = {"+1", "011", "+1234567890123456"})
+    void rejectsInvalidPrefixes(String prefix) {
+        assertThatThrownBy(() -> PhoneNumberNormalizer.normalizePrefix(prefix))
+                .isInstanceOf(InvalidPhoneNumberException.class);
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource({
+            "5511987654321, +5511987654321",
+            "14155552671, +14155552671"
+    })
+    void formatsWithPlus(long phoneNumber, String expected) {
+        assertThat(PhoneNumberNormalizer.format(phoneNumber)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,208 @@
+package br.com.safe_line.safeline.modules.report.service;
+
+import br.com.safe_line.safeline.modules.report.dto.ReportResponseDTO;
+import br.com.safe_line.safeline.modules.report.model.Report;
+import br.com.safe_line.safeline.modules.report.repository.ReportRepository;
+import br.com.safe_line.safeline.modules.user.dto.UserResponseDTO;
+import br.com.safe_line.safeline.modules.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Leitura de 100k linhas: entidades gerenciadas + cópia para o DTO (antes)
+ * contra projeção direta no DTO em transação somente-leitura (depois).
+ *
+ * Para cada caminho mede latência média, bytes alocados pela thread e heap
+ * retido enquanto o persistence context está aberto. Fora do build normal:
+ * mvn test -Pbenchmark (precisa do Postgres de application.yml).
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "app.report.intake.async-enabled=false"
+})
+class ReadProjectionBenchmarkTests {
+
+    private static final int ROWS = 100_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+    private static final String EMAIL_DOMAIN = "@benchmark.safeline.test";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // proxy compartilhado: dentro do TransactionTemplate aponta para o persistence context da transação
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private UUID reporterId;
+
+    @BeforeAll
+    void seed() {
+        List<UUID> userIds = IntStream.range(0, ROWS).mapToObj(i -> UUID.randomUUID()).toList();
+        this.reporterId = userIds.get(0);
+
+        this.jdbcTemplate.batchUpdate("""
+                INSERT INTO tb_user (id_user, name, email, password, created_at, status)
+                VALUES (?, ?, ?, 'x', now(), TRUE)
+                """, userIds, 1000, (ps, id) -> {
+            ps.setObject(1, id);
+            ps.setString(2, "Benchmark " + id.toString().substring(0, 8));
+            ps.setString(3, id + EMAIL_DOMAIN);
+        });
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        this.jdbcTemplate.batchUpdate("""
+                INSERT INTO tb_report (id, user_id, phone, phone_number, call_date, company, description, status)
+                VALUES (?, ?, ?, ?, ?, ?, ?, TRUE)
+                """, IntStream.range(0, ROWS).boxed().toList(), 1000, (ps, i) -> {
+            long phoneNumber = 5511900000000L + i;
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, this.reporterId);
+            ps.setString(3, "+" + phoneNumber);
+            ps.setLong(4, phoneNumber);
+            ps.setObject(5, base.plusMinutes(i));
+            ps.setString(6, "Empresa " + (i % 50));
+            ps.setString(7, "Ligação suspeita oferecendo empréstimo consignado número " + i);
+        });
+    }
+
+    @AfterAll
+    void cleanUp() {
+        this.jdbcTemplate.update("DELETE FROM tb_report WHERE user_id = ?", this.reporterId);
+        this.jdbcTemplate.update("DELETE FROM tb_user WHERE email LIKE ?", "%" + EMAIL_DOMAIN);
+    }
+
+    @Test
+    void reportsEntityVersusProjection() {
+        var before = measure("reports/entidade", false, em -> em.createQuery("""
+                        SELECT r FROM Report r ORDER BY r.callDate DESC, r.id DESC
+                        """, Report.class)
+                .setMaxResults(ROWS)
+                .getResultList()
+                .stream()
+                .map(report -> ReportResponseDTO.builder()
+                        .id(report.getId())
+                        .phone(report.getPhone())
+                        .callDate(report.getCallDate())
+                        .company(report.getCompany())
+                        .description(report.getDescription())
+                        .status(report.getStatus())
+                        .build())
+                .toList());
+
+        var after = measure("reports/projeção", true,
+                em -> this.reportRepository.findFirstPage(Limit.of(ROWS)));
+
+        assertThat(before.rows()).isEqualTo(after.rows()).isGreaterThanOrEqualTo(ROWS);
+        print(before, after);
+    }
+
+    @Test
+    void usersEntityVersusProjection() {
+        var before = measure("users/entidade", false, em -> this.userRepository.findAll()
+                .stream()
+                .map(user -> UserResponseDTO.builder()
+                        .name(user.getName())
+                        .email(user.getEmail())
+                        .createdAt(user.getCreatedAt())
+                        .build())
+                .toList());
+
+        var after = measure("users/projeção", true, em -> this.userRepository.findAllResponses());
+
+        assertThat(before.rows()).isEqualTo(after.rows()).isGreaterThanOrEqualTo(ROWS);
+        print(before, after);
+    }
+
+    private Result measure(String name, boolean readOnly, Function<EntityManager, List<?>> read) {
+        var transaction = new TransactionTemplate(this.transactionManager);
+        transaction.setReadOnly(readOnly);
+
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var memory = ManagementFactory.getMemoryMXBean();
+
+        long totalNanos = 0;
+        long totalAllocated = 0;
+        long retained = 0;
+        int rows = 0;
+
+        for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+            // Passada cronometrada: latência e alocação, sem GC forçado dentro da janela
+            System.gc();
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+
+            List<?> result = transaction.execute(status -> read.apply(this.entityManager));
+
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+            // Passada separada, fora do relógio: heap ainda preso pelo persistence
+            // context (entidades + snapshots) antes do commit
+            System.gc();
+            long heapBefore = memory.getHeapMemoryUsage().getUsed();
+            Long retainedInRun = transaction.execute(status -> {
+                List<?> rowsRead = read.apply(this.entityManager);
+                System.gc();
+                long used = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+                Reference.reachabilityFence(rowsRead); // resultado vivo até a medição
+                return used;
+            });
+
+            if (run >= WARMUP_RUNS) {
+                totalNanos += elapsed;
+                totalAllocated += allocated;
+                retained += retainedInRun == null ? 0 : retainedInRun;
+                rows = result == null ? 0 : result.size();
+            }
+        }
+
+        return new Result(name, rows,
+                totalNanos / MEASURED_RUNS / 1_000_000,
+                totalAllocated / MEASURED_RUNS / (1024 * 1024),
+                retained / MEASURED_RUNS / (1024 * 1024));
+    }
+
+    private static void print(Result before, Result after) {
+        System.out.printf("%-18s %8s %10s %14s %12s%n", "caminho", "linhas", "ms", "alocado (MB)", "retido (MB)");
+        for (Result result : List.of(before, after)) {
+            System.out.printf("%-18s %8d %10d %14d %12d%n",
+                    result.name(), result.rows(), result.avgMillis(), result.allocatedMb(), result.retainedMb());
+        }
+    }
+
+    private record Result(String name, int rows, long avgMillis, long allocatedMb, long retainedMb) {
+    }
+}